@@ -0,0 +1,37 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.ColumnDescriptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ColumnParsingBenchmark class measures the parsing of the data parameter of the datatables columns.
+ * The uncached benchmark gives each column a data parameter which was never parsed before,
+ * so that the descriptor is parsed on every invocation once the descriptor cache is full.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnParsingBenchmark {
+    @State(Scope.Thread)
+    public static class Counter {
+        long value;
+    }
+
+    @Benchmark
+    public Column createColumn(GridState gridState) {
+        return new Column(gridState.getColumnData());
+    }
+
+    @Benchmark
+    public ColumnDescriptor parseUncachedColumn(GridState gridState, Counter counter) {
+        return ColumnDescriptor.of(gridState.getColumnData() + counter.value++);
+    }
+}
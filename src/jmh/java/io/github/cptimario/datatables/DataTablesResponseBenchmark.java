@@ -0,0 +1,83 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.Order;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataTablesResponseBenchmark class measures the latency of the datatables response on the seeded H2 database,
+ * together with the number of JDBC statements prepared for each response.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class DataTablesResponseBenchmark {
+    public enum Scenario {
+        FIRST_PAGE, DEEP_PAGE, GLOBAL_SEARCH, COLUMN_SEARCH, MULTI_COLUMN_SORT, GROUP_BY
+    }
+
+    @Param
+    public Scenario scenario;
+
+    @Benchmark
+    public DataTablesResponse<ParentEntity> getDataTablesResponse(DatasetState datasetState, StatementCounter statementCounter) {
+        Statistics statistics = datasetState.getStatistics();
+        long statementCount = statistics.getPrepareStatementCount();
+        EntityManager entityManager = datasetState.createEntityManager();
+        try {
+            DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, getDataTablesParameter(datasetState.rowCount));
+            return dataTables.getDataTablesResponse(entityManager, getQueryParameter());
+        } finally {
+            entityManager.close();
+            statementCounter.statements += statistics.getPrepareStatementCount() - statementCount;
+            statementCounter.responses++;
+        }
+    }
+
+    private DataTablesParameter getDataTablesParameter(int rowCount) {
+        DataTablesParameter dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setDraw(1);
+        dataTablesParameter.setLength(10);
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("data", scenario == Scenario.COLUMN_SEARCH ? "parent 4242" : ""),
+                new Column("date"), new Column("childEntity.firstData"), new Column("otherEntity.firstData otherEntity.secondData")));
+        dataTablesParameter.setOrder(List.of(new Order(0, "asc")));
+        switch (scenario) {
+            case DEEP_PAGE:
+                dataTablesParameter.setStart(rowCount - 100);
+                break;
+            case GLOBAL_SEARCH:
+                dataTablesParameter.setSearchValue("child 42");
+                break;
+            case MULTI_COLUMN_SORT:
+                dataTablesParameter.setOrder(List.of(new Order(3, "asc"), new Order(2, "desc"), new Order(0, "asc")));
+                break;
+            case GROUP_BY:
+                dataTablesParameter.setColumns(List.of(new Column("childEntity.firstData")));
+                break;
+            default:
+                break;
+        }
+        return dataTablesParameter;
+    }
+
+    private QueryParameter getQueryParameter() {
+        QueryParameter queryParameter = new QueryParameter();
+        if (scenario == Scenario.GROUP_BY) {
+            queryParameter.setSelectClause("Select parentEntity.childEntity.firstData, Count(parentEntity.id)");
+            queryParameter.addGroupByField("parentEntity.childEntity.firstData");
+        }
+        return queryParameter;
+    }
+}
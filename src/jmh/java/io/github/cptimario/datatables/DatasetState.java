@@ -0,0 +1,86 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.entity.ChildEntity;
+import io.github.cptimario.datatables.entity.OtherEntity;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.sql.Statement;
+
+/**
+ * DatasetState class holds an in-memory H2 database seeded with the benchmarked number of parent entities.
+ * Every parent entity references one of a thousand child entities, and every other parent entity has its own other entity.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@State(Scope.Benchmark)
+public class DatasetState {
+    private static final int CHILD_ENTITY_COUNT = 1000;
+
+    @Param({"100000", "1000000"})
+    public int rowCount;
+
+    SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ParentEntity.class)
+                .addAnnotatedClass(ChildEntity.class)
+                .addAnnotatedClass(OtherEntity.class)
+                .setProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:datatables_" + rowCount + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.pool_size", "4")
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.search.enabled", "false")
+                .buildSessionFactory();
+        seed();
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    EntityManager createEntityManager() {
+        return sessionFactory.createEntityManager();
+    }
+
+    Statistics getStatistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    /**
+     * Seeds the database with set based inserts, relying on the identity columns of the fresh tables to number the rows from one.
+     */
+    private void seed() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("Insert Into ChildEntity (firstData, secondData, date) "
+                            + "Select 'child ' || X, 'child data ' || Mod(X, 97), DateAdd('DAY', X, Date '2015-01-01') "
+                            + "From System_Range(1, " + CHILD_ENTITY_COUNT + ")");
+                    statement.execute("Insert Into OtherEntity (firstData, secondData, date, childEntity_id) "
+                            + "Select 'other ' || X, 'other data ' || Mod(X, 89), DateAdd('DAY', Mod(X, 3650), Date '2010-01-01'), Mod(X, " + CHILD_ENTITY_COUNT + ") + 1 "
+                            + "From System_Range(1, " + rowCount / 2 + ")");
+                    statement.execute("Insert Into ParentEntity (data, date, childEntity_id, otherEntity_id) "
+                            + "Select 'parent ' || X, DateAdd('DAY', Mod(X, 7300), Date '2000-01-01'), Mod(X, " + CHILD_ENTITY_COUNT + ") + 1, "
+                            + "Case When Mod(X, 2) = 0 Then X / 2 End "
+                            + "From System_Range(1, " + rowCount + ")");
+                }
+            });
+            transaction.commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.Order;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GridState class holds a datatables request of a grid with the benchmarked number and layout of columns.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@State(Scope.Benchmark)
+public class GridState {
+    private static final List<String> SINGLE_FIELDS = List.of("id", "data", "date");
+    private static final List<String> MULTI_FIELDS = List.of("id data", "data - date", "date id");
+    private static final List<String> SINGLE_RELATIONSHIP_FIELDS = List.of("id", "data", "childEntity.firstData", "childEntity.date", "otherEntity.secondData");
+    private static final List<String> MULTI_RELATIONSHIP_FIELDS = List.of("data childEntity.firstData", "otherEntity.firstData - otherEntity.secondData", "childEntity.date id");
+
+    @Param({"5", "30", "100"})
+    public int columnCount;
+
+    @Param({"false", "true"})
+    public boolean multiField;
+
+    @Param({"false", "true"})
+    public boolean relationships;
+
+    DataTablesParameter dataTablesParameter;
+    DataTables<ParentEntity> dataTables;
+    QueryParameter queryParameter;
+
+    @Setup
+    public void setUp() {
+        List<String> fields = getFields();
+        List<Column> columns = new ArrayList<>();
+        for (int index = 0; index < columnCount; index++) {
+            columns.add(new Column(fields.get(index % fields.size())));
+        }
+        dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setDraw(1);
+        dataTablesParameter.setStart(20);
+        dataTablesParameter.setLength(10);
+        dataTablesParameter.setSearchValue("lorem ipsum");
+        dataTablesParameter.setColumns(columns);
+        dataTablesParameter.setOrder(List.of(new Order(1, "asc"), new Order(0, "desc")));
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.date > :date");
+        queryParameter.addOrderCondition("parentEntity.id desc");
+        queryParameter.put("date", "2020-01-01");
+    }
+
+    String getFieldClause() {
+        return relationships ? "parentEntity.childEntity.firstData = child_1.secondData And parentEntity.otherEntity.date > :date"
+                : "parentEntity.data = :data And parentEntity.date > :date";
+    }
+
+    String getColumnData() {
+        return getFields().get(getFields().size() - 1);
+    }
+
+    private List<String> getFields() {
+        if (relationships)
+            return multiField ? MULTI_RELATIONSHIP_FIELDS : SINGLE_RELATIONSHIP_FIELDS;
+        return multiField ? MULTI_FIELDS : SINGLE_FIELDS;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.cptimario.datatables;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryConstructionBenchmark class measures the generation of the datatables queries of a request.
+ * The result list and filtered count queries are served by the query template cache after the first invocation,
+ * while the search condition and the aliased clauses are generated on every invocation.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryConstructionBenchmark {
+    @Benchmark
+    public String getResultListQuery(GridState gridState) {
+        return gridState.dataTables.getQuery(gridState.queryParameter.clone(), DataTables.QueryType.RESULT_LIST);
+    }
+
+    @Benchmark
+    public String getFilteredCountQuery(GridState gridState) {
+        return gridState.dataTables.getQuery(gridState.queryParameter.clone(), DataTables.QueryType.FILTERED_COUNT);
+    }
+
+    @Benchmark
+    public String getSearchCondition(GridState gridState) {
+        return gridState.dataTables.getSearchCondition(gridState.queryParameter.clone());
+    }
+
+    @Benchmark
+    public String getClauseWithAlias(GridState gridState) {
+        return gridState.dataTables.getClauseWithAlias(gridState.getFieldClause());
+    }
+
+    @Benchmark
+    public QueryParameter cloneQueryParameter(GridState gridState) {
+        return gridState.queryParameter.clone();
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.cptimario.datatables;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * StatementCounter class reports the number of JDBC statements prepared by the benchmarked operations.
+ * Both counters are summed over the measurement iterations, so the statements per response is the ratio of the two counters.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class StatementCounter {
+    public long statements;
+    public long responses;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+        responses = 0;
+    }
+}
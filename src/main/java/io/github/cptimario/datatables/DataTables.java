@@ -1,11 +1,35 @@
 package io.github.cptimario.datatables;
 
 import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.ColumnDescriptor;
+import io.github.cptimario.datatables.components.MatchStrategy;
 import io.github.cptimario.datatables.components.Order;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cptimario.datatables.dialect.DatabaseDialect;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.annotations.QueryHints;
 
-import javax.persistence.*;
-import java.lang.reflect.Field;
+import javax.persistence.Entity;
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.FlushModeType;
+import javax.persistence.Query;
+import javax.persistence.Subgraph;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,12 +42,34 @@ import java.util.regex.Pattern;
  */
 public class DataTables<E> {
     enum QueryType {
-        RESULT_LIST, TOTAL_COUNT, FILTERED_COUNT
+        RESULT_LIST, TOTAL_COUNT, FILTERED_COUNT, CAPPED_FILTERED_COUNT
     }
 
+    private static final Pattern WILDCARD_PATTERN = Pattern.compile("([#%_])");
+    private static final String REGEX_METACHARACTERS = ".[]()*+?{}|^$\\";
+    static final String SEARCH_IDS_PARAMETER = "datatables_search_ids";
+    static final String SEARCH_COLUMNS_PARAMETER = "datatables_search_columns";
+    static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+    private static final DataTablesMetrics DEFAULT_METRICS = isMicrometerPresent() ? MicrometerDataTablesMetrics.ofGlobalRegistry() : DataTablesMetrics.NONE;
+    private static final QueryTemplateCache QUERY_TEMPLATE_CACHE = new QueryTemplateCache(1024);
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
     private final String entityName;
     private final DataTablesParameter dataTablesParameter;
-    private Map<String, String> aliasMap;
+    private final EntityMetadata entityMetadata;
+    private final Map<String, String> aliasMap;
+    private TotalCountCache totalCountCache;
+    private KeysetPageCache keysetPageCache;
+    private TotalCountEstimator totalCountEstimator;
+    private int filteredCountLimit;
+    private SearchBackend searchBackend;
+    private DatabaseDialect databaseDialect;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private boolean readOnly = true;
+    private boolean statelessSession;
+    private boolean fetchGraph = true;
+    private DataTablesMetrics metrics = DEFAULT_METRICS;
+    private SlowQueryLog slowQueryLog;
 
     /**
      * Creates an instance of datatables with the provided entity and datatables parameters
@@ -34,16 +80,174 @@ public class DataTables<E> {
      * @return datatables instance
      */
     public static <E> DataTables<E> of(Class<E> entity, DataTablesParameter dataTablesParameter) {
-        if (!entity.isAnnotationPresent(Entity.class))
-            throw new IllegalArgumentException(entity.getName() + " is not a valid entity.");
-        return new DataTables<>(entity, dataTablesParameter);
+        return new DataTables<>(EntityMetadata.of(entity), dataTablesParameter);
     }
 
-    private DataTables(Class<E> entity, DataTablesParameter dataTablesParameter) {
+    private DataTables(EntityMetadata entityMetadata, DataTablesParameter dataTablesParameter) {
         Objects.requireNonNull(dataTablesParameter);
-        this.entityName = entity.getSimpleName();
+        this.entityMetadata = entityMetadata;
+        this.entityName = entityMetadata.getEntityName();
+        this.aliasMap = entityMetadata.getAliasMap();
         this.dataTablesParameter = dataTablesParameter;
-        initializeAliasMap(entity);
+    }
+
+    /**
+     * Sets the cache of the total record counts.
+     * By default, the total record count is queried on every request.
+     *
+     * @param totalCountCache the total count cache, or {@code null} to disable the caching
+     * @see TotalCountCacheInvalidator#register(javax.persistence.EntityManagerFactory, TotalCountCache)
+     */
+    public void setTotalCountCache(TotalCountCache totalCountCache) {
+        this.totalCountCache = totalCountCache;
+    }
+
+    /**
+     * Sets the cache of the page boundaries used by the keyset pagination.
+     * By default, the result list is paged by skipping the rows before the start index.
+     *
+     * @param keysetPageCache the keyset page cache, or {@code null} to disable the keyset pagination
+     * @apiNote The keyset pagination is only used when the entity is ordered by non-nullable, non-boolean attributes of the entity,
+     * and without custom select clause, group by fields or order conditions.
+     * The identifier of the entity is added as the last order condition to make the order deterministic.
+     * A page is sought forward from the remembered row nearest before it, or backward in reversed order from the remembered row nearest after it.
+     * Only the rows between the remembered row and the page are skipped, and pages with no nearer remembered row skip the rows before them.
+     */
+    public void setKeysetPageCache(KeysetPageCache keysetPageCache) {
+        this.keysetPageCache = keysetPageCache;
+    }
+
+    /**
+     * Sets the estimator of the total record count.
+     * The estimate is used in place of the exact total count when the query parameters have no where conditions
+     * and no group by fields, and the response is flagged with {@link DataTablesResponse#isRecordsTotalEstimated()}.
+     * Without any search, the estimate is also the filtered count, flagged with {@link DataTablesResponse#isRecordsFilteredEstimated()}.
+     * By default, the exact total record count is used.
+     *
+     * @param totalCountEstimator the total count estimator, or {@code null} to always use the exact count
+     */
+    public void setTotalCountEstimator(TotalCountEstimator totalCountEstimator) {
+        this.totalCountEstimator = totalCountEstimator;
+    }
+
+    /**
+     * Sets the limit of the filtered record count.
+     * The filtered count query stops counting after the limit is exceeded, and the response returns the limit
+     * flagged with {@link DataTablesResponse#isRecordsFilteredCapped()}, meaning there are more than the limit of filtered records.
+     * By default, the filtered records are counted exactly.
+     *
+     * @param filteredCountLimit the filtered count limit, or {@code 0} to always count exactly
+     * @throws IllegalArgumentException if the limit is negative or {@link Integer#MAX_VALUE}
+     */
+    public void setFilteredCountLimit(int filteredCountLimit) {
+        if (filteredCountLimit < 0 || filteredCountLimit == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("'" + filteredCountLimit + "' not a valid filtered count limit.");
+        this.filteredCountLimit = filteredCountLimit;
+    }
+
+    /**
+     * Sets the backend which resolves the global search value to the identifiers of the matching entities.
+     * The global search of the searchable columns is then replaced by a condition on the resolved identifiers.
+     * By default, the global search value is matched against every searchable column with like conditions.
+     *
+     * @param searchBackend the search backend, or {@code null} to always use like conditions
+     * @apiNote Columns with their own search value are still matched with like conditions.
+     * The fields of the searchable columns without their own search value which are searchable by the backend,
+     * such as the indexed text fields for {@link HibernateSearchBackend}, are passed to the backend together.
+     * The condition on the resolved identifiers is or'ed with the like conditions of the other searchable columns.
+     * The like conditions are used for every column whenever the backend cannot resolve the search value.
+     * The {@value SEARCH_IDS_PARAMETER} and {@value SEARCH_COLUMNS_PARAMETER} query parameters are reserved
+     * for the resolved identifiers and the indexes of the columns searched by the backend.
+     */
+    public void setSearchBackend(SearchBackend searchBackend) {
+        this.searchBackend = searchBackend;
+    }
+
+    /**
+     * Sets the database dialect used for the regular expression searches.
+     * By default, the dialect is resolved from the entity manager on the first regular expression search.
+     *
+     * @param databaseDialect the database dialect
+     * @apiNote If the database is not supported, regular expression searches are matched as plain text.
+     */
+    public void setDatabaseDialect(DatabaseDialect databaseDialect) {
+        this.databaseDialect = databaseDialect;
+    }
+
+    /**
+     * Sets whether the queries are executed as read-only queries.
+     * Read-only queries load the entities without a snapshot for dirty checking,
+     * and do not flush the persistence context before they are executed.
+     * By default, the queries are read-only.
+     *
+     * @param readOnly {@code true} to execute read-only queries, {@code false} to execute the queries in the normal persistence context
+     * @apiNote Pending changes of the persistence context are not visible to read-only queries until they are flushed,
+     * and changes made to the entities of the result list are not flushed.
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Sets whether the result list is loaded by a stateless session.
+     * Within a transaction, the stateless session shares the connection, and thus the transaction, of the entity manager.
+     * Otherwise, it opens a connection of its own, which is closed with the session.
+     * The loaded entities are never attached to a persistence context.
+     * By default, the result list is loaded by the entity manager.
+     *
+     * @param statelessSession {@code true} to load the result list by a stateless session, otherwise {@code false}
+     * @apiNote The entities of the result list are detached. Lazy associations and collections cannot be loaded from them.
+     */
+    public void setStatelessSession(boolean statelessSession) {
+        this.statelessSession = statelessSession;
+    }
+
+    /**
+     * Sets whether the associations of the columns are fetched by the result list query.
+     * The associations referenced by the data parameter of the columns are applied as a fetch graph of the result list query,
+     * so that they are loaded with the page instead of one by one when the result list is serialized.
+     * By default, the associations of the columns are fetched.
+     *
+     * @param fetchGraph {@code true} to fetch the associations of the columns, {@code false} to load them as mapped
+     * @apiNote The fetch graph is not applied to result lists with a select clause or group by fields.
+     */
+    public void setFetchGraph(boolean fetchGraph) {
+        this.fetchGraph = fetchGraph;
+    }
+
+    /**
+     * Sets the metrics which record the query phases and the response sizes of this datatable.
+     * By default, the metrics are recorded to the global Micrometer registry when Micrometer is present.
+     *
+     * @param metrics the metrics, or {@code null} to record nothing
+     */
+    public void setMetrics(DataTablesMetrics metrics) {
+        this.metrics = Objects.requireNonNullElse(metrics, DataTablesMetrics.NONE);
+    }
+
+    /**
+     * Sets the log where the queries of this datatable which exceed the threshold of the log are recorded.
+     * By default, slow queries are not logged.
+     *
+     * @param slowQueryLog the slow query log, or {@code null} to not log slow queries
+     * @apiNote The rows of a streamed response are not timed, since they are read as fast as they are written.
+     */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * Sets the JDBC fetch size of the queries.
+     * The persistence context is also cleared every time this number of rows of a streamed result list is written.
+     * By default, the fetch size is {@value DEFAULT_FETCH_SIZE}.
+     *
+     * @param fetchSize the fetch size
+     * @throws IllegalArgumentException if the fetch size is not positive
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize <= 0)
+            throw new IllegalArgumentException("'" + fetchSize + "' not a valid fetch size.");
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -64,44 +268,750 @@ public class DataTables<E> {
      * @return the datatables response
      */
     public DataTablesResponse<E> getDataTablesResponse(EntityManager entityManager, QueryParameter queryParameter) {
-        DataTablesResponse<E> dataTablesResponse = new DataTablesResponse<>();
-        List<E> resultList = getSearchResultList(entityManager, queryParameter);
+        resolveDatabaseDialect(entityManager.getEntityManagerFactory());
+        QueryParameter searchParameter = getIndexedSearchParameter(entityManager, queryParameter);
+        List<E> resultList = getSearchResultList(entityManager, searchParameter);
+        RecordsCount recordsTotal = getRecordsTotal(entityManager, queryParameter);
+        RecordsCount recordsFiltered = isFilteredCountRequired() ? getRecordsFiltered(entityManager, searchParameter) : recordsTotal;
+        return createDataTablesResponse(resultList, recordsTotal, recordsFiltered);
+    }
+
+    /**
+     * Returns the datatables response of this datatable with only the fields of the columns selected.
+     *
+     * @param entityManager the entity manager
+     * @return the datatables response
+     * @see #getProjectedDataTablesResponse(EntityManager, QueryParameter)
+     */
+    public DataTablesResponse<Map<String, Object>> getProjectedDataTablesResponse(EntityManager entityManager) {
+        return getProjectedDataTablesResponse(entityManager, new QueryParameter());
+    }
+
+    /**
+     * Returns the datatables response of this datatable with additional query parameters, with only the fields of the columns selected.
+     * Each row of the result list is a map of the column fields, nested by their associations,
+     * so that the {@code data} parameter of the columns can be read from it on the client side.
+     *
+     * @param entityManager  the entity manager
+     * @param queryParameter the additional query parameters
+     * @return the datatables response
+     * @throws IllegalArgumentException if the query parameters have a select clause or group by fields
+     * @apiNote No entity is loaded by the result list query. Columns which are not mapped to a basic or embedded attribute of the entity,
+     * such as columns of associated entities themselves, are left out of the rows.
+     */
+    public DataTablesResponse<Map<String, Object>> getProjectedDataTablesResponse(EntityManager entityManager, QueryParameter queryParameter) {
+        if (!queryParameter.getSelectClause().isEmpty() || !queryParameter.getGroupByFields().isEmpty())
+            throw new IllegalArgumentException("Projection cannot be used with a select clause or group by fields.");
+        List<String> attributePaths = getProjectedAttributePaths();
+        QueryParameter projectionParameter = queryParameter.clone();
+        projectionParameter.setSelectClause(getProjectionSelectClause(attributePaths));
+        resolveDatabaseDialect(entityManager.getEntityManagerFactory());
+        QueryParameter searchParameter = getIndexedSearchParameter(entityManager, projectionParameter);
+        List<Map<String, Object>> resultList = getProjectedRows(attributePaths, getSearchResultList(entityManager, searchParameter));
+        RecordsCount recordsTotal = getRecordsTotal(entityManager, queryParameter);
+        RecordsCount recordsFiltered = isFilteredCountRequired() ? getRecordsFiltered(entityManager, searchParameter) : recordsTotal;
+        return createDataTablesResponse(resultList, recordsTotal, recordsFiltered);
+    }
+
+    /**
+     * Returns the attribute paths of the columns which can be selected by the projection.
+     *
+     * @return the distinct attribute paths, in the order of the columns
+     */
+    List<String> getProjectedAttributePaths() {
+        Set<String> attributePaths = new LinkedHashSet<>();
+        for (Column column : dataTablesParameter.getColumns()) {
+            for (String field : column.getFieldList()) {
+                Class<?> type = entityMetadata.getAttributePathType(field);
+                if (Objects.nonNull(type) && !type.isAnnotationPresent(Entity.class)) {
+                    attributePaths.add(field);
+                }
+            }
+        }
+        return new ArrayList<>(attributePaths);
+    }
+
+    String getProjectionSelectClause(List<String> attributePaths) {
+        String entityAlias = aliasMap.get(entityName);
+        List<String> selectFields = new ArrayList<>();
+        for (String attributePath : attributePaths) {
+            selectFields.add(entityAlias + "." + attributePath);
+        }
+        if (selectFields.isEmpty()) {
+            selectFields.add(entityAlias + "." + entityMetadata.getIdAttribute());
+        }
+        return "Select " + String.join(", ", selectFields);
+    }
+
+    private static List<Map<String, Object>> getProjectedRows(List<String> attributePaths, List<?> resultList) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object result : resultList) {
+            Object[] values = result instanceof Object[] ? (Object[]) result : new Object[]{result};
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int index = 0; index < attributePaths.size(); index++) {
+                putNestedValue(row, attributePaths.get(index), values[index]);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putNestedValue(Map<String, Object> row, String attributePath, Object value) {
+        Map<String, Object> map = row;
+        String[] attributes = attributePath.split("\\.");
+        for (int index = 0; index < attributes.length - 1; index++) {
+            map = (Map<String, Object>) map.computeIfAbsent(attributes[index], key -> new LinkedHashMap<>());
+        }
+        map.put(attributes[attributes.length - 1], value);
+    }
+
+    /**
+     * Writes the datatables response of this datatable as JSON to the specified output stream.
+     *
+     * @param entityManager the entity manager
+     * @param objectMapper  the object mapper which serializes the rows
+     * @param outputStream  the output stream, such as the output stream of the servlet response
+     * @throws IOException if the response cannot be written
+     * @see #writeDataTablesResponse(EntityManager, QueryParameter, ObjectMapper, OutputStream)
+     */
+    public void writeDataTablesResponse(EntityManager entityManager, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        writeDataTablesResponse(entityManager, new QueryParameter(), objectMapper, outputStream);
+    }
+
+    /**
+     * Writes the datatables response of this datatable with additional query parameters as JSON to the specified output stream.
+     * The draw and the record counts are written first, then the rows are written one by one while scrolling
+     * through a forward-only cursor of the result list, so the result list is never held in memory.
+     * A length of {@code -1} streams all the filtered rows.
+     *
+     * @param entityManager  the entity manager
+     * @param queryParameter the additional query parameters
+     * @param objectMapper   the object mapper which serializes the rows
+     * @param outputStream   the output stream, such as the output stream of the servlet response
+     * @throws IOException if the response cannot be written
+     * @apiNote Unless the rows are loaded by a stateless session, the persistence context of the entity manager is cleared
+     * periodically while the rows are written, detaching the entities loaded before. The output stream is flushed but not closed.
+     */
+    public void writeDataTablesResponse(EntityManager entityManager, QueryParameter queryParameter, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        resolveDatabaseDialect(entityManager.getEntityManagerFactory());
+        QueryParameter searchParameter = getIndexedSearchParameter(entityManager, queryParameter);
+        RecordsCount recordsTotal = getRecordsTotal(entityManager, queryParameter);
+        RecordsCount recordsFiltered = isFilteredCountRequired() ? getRecordsFiltered(entityManager, searchParameter) : recordsTotal;
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField("draw", dataTablesParameter.getDraw());
+            jsonGenerator.writeNumberField("recordsTotal", recordsTotal.getCount());
+            jsonGenerator.writeNumberField("recordsFiltered", recordsFiltered.getCount());
+            jsonGenerator.writeBooleanField("recordsTotalEstimated", recordsTotal.isEstimated());
+            jsonGenerator.writeBooleanField("recordsFilteredEstimated", recordsFiltered.isEstimated());
+            jsonGenerator.writeBooleanField("recordsFilteredCapped", recordsFiltered.isCapped());
+            jsonGenerator.writeArrayFieldStart("data");
+            int rowCount = writeSearchResultRows(entityManager, searchParameter, jsonGenerator);
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeEndObject();
+            recordResponse(rowCount);
+        }
+    }
+
+    private int writeSearchResultRows(EntityManager entityManager, QueryParameter queryParameter, JsonGenerator jsonGenerator) throws IOException {
+        long startTime = System.nanoTime();
+        EntityGraph<?> entityGraph = getFetchGraph(entityManager, queryParameter);
+        try {
+            if (!statelessSession) {
+                return writeSearchResultRows(entityManager, queryString -> setFetchGraph(createQuery(entityManager, queryString), entityGraph), queryParameter, jsonGenerator);
+            }
+            try (StatelessSession session = openStatelessSession(entityManager)) {
+                return writeSearchResultRows(entityManager, queryString -> setFetchGraph(createQuery(session, queryString), entityGraph), queryParameter, jsonGenerator);
+            }
+        } finally {
+            metrics.recordPhase(entityMetadata.getEntityClass(), DataTablesMetrics.Phase.SERIALIZATION, System.nanoTime() - startTime);
+        }
+    }
+
+    private int writeSearchResultRows(EntityManager entityManager, Function<String, Query> queryFactory, QueryParameter queryParameter, JsonGenerator jsonGenerator) throws IOException {
+        QueryParameter resultListParameter = queryParameter.clone();
+        QueryTemplate queryTemplate = getQueryTemplate(resultListParameter, QueryType.RESULT_LIST);
+        Query query = queryFactory.apply(queryTemplate.getQuery());
+        queryTemplate.setParameters(query, resultListParameter);
+        setResultRange(query);
+        try (ScrollableResults scrollableResults = query.unwrap(org.hibernate.query.Query.class).scroll(ScrollMode.FORWARD_ONLY)) {
+            int rowCount = 0;
+            while (scrollableResults.next()) {
+                Object[] row = scrollableResults.get();
+                jsonGenerator.writeObject(row.length == 1 ? row[0] : row);
+                if (++rowCount % fetchSize == 0) {
+                    jsonGenerator.flush();
+                    if (!statelessSession) {
+                        entityManager.clear();
+                    }
+                }
+            }
+            return rowCount;
+        }
+    }
+
+    /**
+     * Returns the datatables response of this datatable with additional query parameters.
+     * The result list, total count and filtered count queries are executed concurrently,
+     * each on its own read-only entity manager created from the entity manager factory.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param queryParameter       the additional query parameters
+     * @param executor             the executor which runs the queries
+     * @return the datatables response
+     * @apiNote The entities in the result list are detached from the entity managers which loaded them.
+     * Lazy associations which are not yet loaded cannot be accessed anymore.
+     */
+    public DataTablesResponse<E> getDataTablesResponse(EntityManagerFactory entityManagerFactory, QueryParameter queryParameter, Executor executor) {
+        try {
+            return getDataTablesResponseAsync(entityManagerFactory, queryParameter, executor).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the future datatables response of this datatable.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param executor             the executor which runs the queries
+     * @return the future datatables response
+     * @see #getDataTablesResponseAsync(EntityManagerFactory, QueryParameter, Executor)
+     */
+    public CompletableFuture<DataTablesResponse<E>> getDataTablesResponseAsync(EntityManagerFactory entityManagerFactory, Executor executor) {
+        return getDataTablesResponseAsync(entityManagerFactory, new QueryParameter(), executor);
+    }
+
+    /**
+     * Returns the future datatables response of this datatable with additional query parameters.
+     * The calling thread is not blocked, the queries are executed concurrently by the executor
+     * and the future is completed once all of them are done.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param queryParameter       the additional query parameters
+     * @param executor             the executor which runs the queries
+     * @return the future datatables response
+     * @apiNote Spring MVC controllers can return the future directly to release the request thread while the queries run.
+     * The entities in the result list are detached from the entity managers which loaded them.
+     */
+    public CompletableFuture<DataTablesResponse<E>> getDataTablesResponseAsync(EntityManagerFactory entityManagerFactory, QueryParameter queryParameter, Executor executor) {
+        resolveDatabaseDialect(entityManagerFactory);
+        checkReservedParameter(queryParameter);
+        CompletableFuture<QueryParameter> searchParameter = !isIndexedSearchApplicable() ? CompletableFuture.completedFuture(queryParameter) :
+                CompletableFuture.supplyAsync(() -> execute(entityManagerFactory, entityManager -> getIndexedSearchParameter(entityManager, queryParameter)), executor);
+        CompletableFuture<List<E>> resultList = searchParameter.thenApplyAsync(parameter -> execute(entityManagerFactory, entityManager -> getSearchResultList(entityManager, parameter)), executor);
+        CompletableFuture<RecordsCount> recordsTotal = CompletableFuture.supplyAsync(() -> execute(entityManagerFactory, entityManager -> getRecordsTotal(entityManager, queryParameter)), executor);
+        CompletableFuture<RecordsCount> recordsFiltered = !isFilteredCountRequired() ? recordsTotal :
+                searchParameter.thenApplyAsync(parameter -> execute(entityManagerFactory, entityManager -> getRecordsFiltered(entityManager, parameter)), executor);
+        return CompletableFuture.allOf(resultList, recordsTotal, recordsFiltered)
+                .thenApply(ignored -> createDataTablesResponse(resultList.join(), recordsTotal.join(), recordsFiltered.join()));
+    }
+
+    private <T> T execute(EntityManagerFactory entityManagerFactory, Function<EntityManager, T> queryFunction) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            return queryFunction.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private <T> DataTablesResponse<T> createDataTablesResponse(List<T> resultList, RecordsCount recordsTotal, RecordsCount recordsFiltered) {
+        recordResponse(resultList.size());
+        DataTablesResponse<T> dataTablesResponse = new DataTablesResponse<>();
         dataTablesResponse.setDraw(dataTablesParameter.getDraw());
         dataTablesResponse.setData(resultList);
         dataTablesResponse.setResultList(resultList);
-        dataTablesResponse.setRecordsTotal(getRecordsTotalCount(entityManager, queryParameter));
-        dataTablesResponse.setRecordsFiltered(getRecordsFilteredCount(entityManager, queryParameter));
+        dataTablesResponse.setRecordsTotal(recordsTotal.getCount());
+        dataTablesResponse.setRecordsTotalEstimated(recordsTotal.isEstimated());
+        dataTablesResponse.setRecordsFiltered(recordsFiltered.getCount());
+        dataTablesResponse.setRecordsFilteredEstimated(recordsFiltered.isEstimated());
+        dataTablesResponse.setRecordsFilteredCapped(recordsFiltered.isCapped());
         return dataTablesResponse;
     }
 
-    @SuppressWarnings("unchecked")
+    private void recordResponse(int rowCount) {
+        String searchValue = Objects.requireNonNullElse(dataTablesParameter.getSearchValue(), "");
+        metrics.recordResponse(entityMetadata.getEntityClass(), dataTablesParameter.getLength(), rowCount, searchValue.length());
+    }
+
+    private <T> T recordPhase(DataTablesMetrics.Phase phase, Supplier<T> supplier) {
+        long startTime = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            metrics.recordPhase(entityMetadata.getEntityClass(), phase, System.nanoTime() - startTime);
+        }
+    }
+
+    private static boolean isMicrometerPresent() {
+        try {
+            Class.forName("io.micrometer.core.instrument.MeterRegistry", false, DataTables.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    private void resolveDatabaseDialect(EntityManagerFactory entityManagerFactory) {
+        if (Objects.isNull(databaseDialect) && isRegexSearched()) {
+            databaseDialect = DatabaseDialect.of(entityManagerFactory).orElse(null);
+        }
+    }
+
+    private boolean isRegexSearched() {
+        for (Column column : dataTablesParameter.getColumns()) {
+            if (column.isSearchable() && isRegexSearchRequested(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRegexSearchRequested(Column column) {
+        if (!"".equals(column.getSearchValue())) {
+            return column.getSearch().isRegex();
+        }
+        return dataTablesParameter.isSearchRegex() && !"".equals(dataTablesParameter.getSearchValue());
+    }
+
+    /**
+     * Checks whether the search value of the column is matched as a regular expression.
+     *
+     * @param column the datatables column
+     * @return {@code true} if a regular expression search is requested and supported by the database dialect, otherwise {@code false}.
+     */
+    boolean isRegexSearch(Column column) {
+        return Objects.nonNull(databaseDialect) && isRegexSearchRequested(column);
+    }
+
+    private boolean isIndexedSearchApplicable() {
+        return Objects.nonNull(searchBackend) && Objects.nonNull(entityMetadata.getIdAttribute())
+                && !"".equals(dataTablesParameter.getSearchValue()) && !getIndexedSearchColumns().isEmpty();
+    }
+
+    /**
+     * Returns the query parameters with the identifiers resolved by the search backend for the global search value.
+     * Only the columns whose fields are all searchable by the backend are searched by it.
+     *
+     * @param entityManager  the entity manager
+     * @param queryParameter the additional query parameters
+     * @return the query parameters with the resolved identifiers and the indexes of the searched columns,
+     * or the same query parameters if the search is not resolved by the backend
+     * @throws IllegalArgumentException if the query parameters have a reserved parameter
+     */
+    QueryParameter getIndexedSearchParameter(EntityManager entityManager, QueryParameter queryParameter) {
+        checkReservedParameter(queryParameter);
+        if (!isIndexedSearchApplicable()) {
+            return queryParameter;
+        }
+        List<Integer> indexedSearchColumns = getIndexedSearchColumns();
+        Class<?> entityClass = entityMetadata.getEntityClass();
+        Set<String> searchableFields = new HashSet<>(searchBackend.getSearchableFields(entityManager, entityClass, getFields(indexedSearchColumns)));
+        indexedSearchColumns.removeIf(index -> !searchableFields.containsAll(dataTablesParameter.getColumns().get(index).getDescriptor().getFieldList()));
+        if (indexedSearchColumns.isEmpty()) {
+            return queryParameter;
+        }
+        Optional<List<?>> ids = searchBackend.search(entityManager, entityClass, getFields(indexedSearchColumns), dataTablesParameter.getSearchValue());
+        if (ids.isEmpty()) {
+            return queryParameter;
+        }
+        QueryParameter searchParameter = queryParameter.clone();
+        searchParameter.put(SEARCH_IDS_PARAMETER, ids.get());
+        searchParameter.put(SEARCH_COLUMNS_PARAMETER, Set.copyOf(indexedSearchColumns));
+        return searchParameter;
+    }
+
+    private static void checkReservedParameter(QueryParameter queryParameter) {
+        for (String reservedParameter : List.of(SEARCH_IDS_PARAMETER, SEARCH_COLUMNS_PARAMETER)) {
+            if (queryParameter.containsKey(reservedParameter))
+                throw new IllegalArgumentException("'" + reservedParameter + "' not a valid query parameter name.");
+        }
+    }
+
+    private List<Integer> getIndexedSearchColumns() {
+        List<Integer> indexedSearchColumns = new ArrayList<>();
+        List<Column> columnList = dataTablesParameter.getColumns();
+        for (int index = 0; index < columnList.size(); index++) {
+            Column column = columnList.get(index);
+            if (column.isSearchable() && "".equals(column.getSearchValue())) {
+                indexedSearchColumns.add(index);
+            }
+        }
+        return indexedSearchColumns;
+    }
+
+    private List<String> getFields(List<Integer> columnIndexes) {
+        List<String> fields = new ArrayList<>();
+        for (int index : columnIndexes) {
+            fields.addAll(dataTablesParameter.getColumns().get(index).getDescriptor().getFieldList());
+        }
+        return fields;
+    }
+
+    private static boolean isIndexedSearchColumn(QueryParameter queryParameter, int columnIndex) {
+        Object indexedSearchColumns = queryParameter.get(SEARCH_COLUMNS_PARAMETER);
+        return indexedSearchColumns instanceof Collection && ((Collection<?>) indexedSearchColumns).contains(columnIndex);
+    }
+
+    String getIndexedSearchCondition(QueryParameter queryParameter) {
+        Object ids = queryParameter.get(SEARCH_IDS_PARAMETER);
+        if (!(ids instanceof Collection)) {
+            return "";
+        } else if (((Collection<?>) ids).isEmpty()) {
+            return "1 = 0";
+        }
+        return aliasMap.get(entityName) + "." + entityMetadata.getIdAttribute() + " In (:" + SEARCH_IDS_PARAMETER + ")";
+    }
+
+    /**
+     * Checks whether the filtered count needs a query of its own.
+     * Without any global or column search, the filtered count query has the same conditions as the total count query,
+     * so the total count is used as the filtered count.
+     *
+     * @return {@code true} if a search is applied to any searchable column, otherwise {@code false}.
+     */
+    public boolean isFilteredCountRequired() {
+        for (Column column : dataTablesParameter.getColumns()) {
+            if (column.isSearchable() && !"".equals(getSearchString(column))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     List<E> getSearchResultList(EntityManager entityManager, QueryParameter queryParameter) {
+        return recordPhase(DataTablesMetrics.Phase.RESULT, () -> {
+            EntityGraph<?> entityGraph = getFetchGraph(entityManager, queryParameter);
+            if (!statelessSession) {
+                return getSearchResultList(entityManager, queryString -> setFetchGraph(createQuery(entityManager, queryString), entityGraph), queryParameter);
+            }
+            try (StatelessSession session = openStatelessSession(entityManager)) {
+                return getSearchResultList(entityManager, queryString -> setFetchGraph(createQuery(session, queryString), entityGraph), queryParameter);
+            }
+        });
+    }
+
+    /**
+     * Returns the paths of the associations referenced by the data parameter of the columns,
+     * including the intermediate associations of nested paths.
+     *
+     * @return the distinct association paths, with each association path after the path of its owner
+     */
+    Set<String> getFetchedAssociationPaths() {
+        Set<String> associationPaths = new LinkedHashSet<>();
+        for (Column column : dataTablesParameter.getColumns()) {
+            for (String field : column.getFieldList()) {
+                String[] attributes = field.split("\\.");
+                String attributePath = "";
+                for (String attribute : attributes) {
+                    attributePath = attributePath.isEmpty() ? attribute : attributePath + "." + attribute;
+                    Class<?> type = entityMetadata.getAttributePathType(attributePath);
+                    if (Objects.isNull(type) || !type.isAnnotationPresent(Entity.class))
+                        break;
+                    associationPaths.add(attributePath);
+                }
+            }
+        }
+        return associationPaths;
+    }
+
+    private EntityGraph<?> getFetchGraph(EntityManager entityManager, QueryParameter queryParameter) {
+        if (!fetchGraph || !queryParameter.getSelectClause().isEmpty() || !queryParameter.getGroupByFields().isEmpty())
+            return null;
+        Set<String> associationPaths = getFetchedAssociationPaths();
+        if (associationPaths.isEmpty())
+            return null;
+        EntityGraph<?> entityGraph = entityManager.createEntityGraph(entityMetadata.getEntityClass());
+        Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+        for (String associationPath : associationPaths) {
+            int index = associationPath.lastIndexOf('.');
+            Subgraph<?> subgraph = index < 0 ? entityGraph.addSubgraph(associationPath)
+                    : subgraphs.get(associationPath.substring(0, index)).addSubgraph(associationPath.substring(index + 1));
+            subgraphs.put(associationPath, subgraph);
+        }
+        return entityGraph;
+    }
+
+    private static Query setFetchGraph(Query query, EntityGraph<?> entityGraph) {
+        return Objects.isNull(entityGraph) ? query : query.setHint(FETCH_GRAPH_HINT, entityGraph);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> getSearchResultList(EntityManager entityManager, Function<String, Query> queryFactory, QueryParameter queryParameter) {
+        if (isKeysetPaginationApplicable(queryParameter)) {
+            return getKeysetResultList(entityManager, queryFactory, queryParameter);
+        }
         QueryParameter resultListParameter = queryParameter.clone();
-        String queryString = getQuery(resultListParameter, QueryType.RESULT_LIST);
+        QueryTemplate queryTemplate = getQueryTemplate(resultListParameter, QueryType.RESULT_LIST);
+        Query query = queryFactory.apply(queryTemplate.getQuery());
+        queryTemplate.setParameters(query, resultListParameter);
+        setResultRange(query);
+        return (List<E>) getQueryResult(entityManager, QueryType.RESULT_LIST, queryTemplate, resultListParameter, query, Query::getResultList);
+    }
+
+    /**
+     * Creates the query on the specified entity manager, with the read-only and fetch size hints of this datatable.
+     *
+     * @param entityManager the entity manager
+     * @param queryString   the query string
+     * @return the query
+     */
+    Query createQuery(EntityManager entityManager, String queryString) {
         Query query = entityManager.createQuery(queryString);
-        for (Map.Entry<String, Object> parameter : resultListParameter.entrySet()) {
-            query.setParameter(parameter.getKey(), parameter.getValue());
+        if (readOnly) {
+            query.setHint(QueryHints.READ_ONLY, true);
+            query.setFlushMode(FlushModeType.COMMIT);
         }
+        query.setHint(QueryHints.FETCH_SIZE, fetchSize);
+        return query;
+    }
+
+    private Query createQuery(StatelessSession session, String queryString) {
+        return session.createQuery(queryString).setFetchSize(fetchSize);
+    }
+
+    private static StatelessSession openStatelessSession(EntityManager entityManager) {
+        Session session = entityManager.unwrap(Session.class);
+        if (!entityManager.isJoinedToTransaction()) {
+            return session.getSessionFactory().openStatelessSession();
+        }
+        Connection connection = session.doReturningWork(sessionConnection -> sessionConnection);
+        return session.getSessionFactory().withStatelessOptions().connection(connection).openStatelessSession();
+    }
+
+    private void setResultRange(Query query) {
         query.setFirstResult(dataTablesParameter.getStart());
-        query.setMaxResults(dataTablesParameter.getLength());
-        return (List<E>) query.getResultList();
+        if (dataTablesParameter.getLength() >= 0) {
+            query.setMaxResults(dataTablesParameter.getLength());
+        }
+    }
+
+    /**
+     * Checks whether the result list can be paged with keyset pagination.
+     *
+     * @param queryParameter the additional query parameters
+     * @return {@code true} if keyset pagination is enabled and applicable to the request, otherwise {@code false}.
+     */
+    boolean isKeysetPaginationApplicable(QueryParameter queryParameter) {
+        String idAttribute = entityMetadata.getIdAttribute();
+        return Objects.nonNull(keysetPageCache) && Objects.nonNull(idAttribute)
+                && entityMetadata.getNonNullableAttributes().contains(idAttribute)
+                && dataTablesParameter.getLength() >= 0
+                && queryParameter.getSelectClause().isEmpty()
+                && queryParameter.getGroupByFields().isEmpty()
+                && queryParameter.getOrderConditions().isEmpty()
+                && Objects.nonNull(getKeysetSortKeys());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> getKeysetResultList(EntityManager entityManager, Function<String, Query> queryFactory, QueryParameter queryParameter) {
+        String entityAlias = aliasMap.get(entityName);
+        String idField = entityAlias + "." + entityMetadata.getIdAttribute();
+        Map<String, String> sortKeys = getKeysetSortKeys();
+        QueryParameter keysetParameter = queryParameter.clone();
+        boolean isIdOrderAdded = !sortKeys.containsKey(idField);
+        if (isIdOrderAdded) {
+            sortKeys.put(idField, "asc");
+        }
+        keysetParameter.setSelectClause("Select " + entityAlias + ", " + String.join(", ", sortKeys.keySet()));
+        QueryParameter listParameter = keysetParameter.clone();
+        if (isIdOrderAdded) {
+            listParameter.addOrderCondition(idField + " asc");
+        }
+        QueryTemplate listTemplate = getQueryTemplate(listParameter, QueryType.RESULT_LIST);
+        Map<String, Object> listParameterValues = listTemplate.getParameterValues(listParameter);
+        int start = dataTablesParameter.getStart();
+        int length = dataTablesParameter.getLength();
+        Map.Entry<Integer, List<Object>> previousRow = start > 0 ? keysetPageCache.floor(listTemplate.getQuery(), listParameterValues, start - 1) : null;
+        Map.Entry<Integer, List<Object>> nextRow = start > 0 ? keysetPageCache.ceiling(listTemplate.getQuery(), listParameterValues, start + length) : null;
+        int forwardSkipped = Objects.nonNull(previousRow) ? start - 1 - previousRow.getKey() : Integer.MAX_VALUE;
+        int backwardSkipped = Objects.nonNull(nextRow) ? nextRow.getKey() - start - length : Integer.MAX_VALUE;
+        boolean isReversed = backwardSkipped < forwardSkipped && backwardSkipped < start;
+        QueryTemplate queryTemplate = listTemplate;
+        QueryParameter executedParameter = listParameter;
+        int skipped = start;
+        if (isReversed || forwardSkipped < start) {
+            Map<String, String> seekSortKeys = isReversed ? getReversedSortKeys(sortKeys) : sortKeys;
+            List<Object> seekRow = isReversed ? nextRow.getValue() : previousRow.getValue();
+            executedParameter = keysetParameter.clone();
+            if (isIdOrderAdded) {
+                executedParameter.addOrderCondition(idField + " " + seekSortKeys.get(idField));
+            }
+            for (int index = 0; index < seekRow.size(); index++) {
+                executedParameter.put("keyset_" + index, seekRow.get(index));
+            }
+            executedParameter.addWhereCondition(getSeekCondition(seekSortKeys));
+            queryTemplate = getQueryTemplate(executedParameter, QueryType.RESULT_LIST, isReversed);
+            skipped = isReversed ? backwardSkipped : forwardSkipped;
+        }
+        Query query = queryFactory.apply(queryTemplate.getQuery());
+        queryTemplate.setParameters(query, executedParameter);
+        if (skipped > 0) {
+            query.setFirstResult(skipped);
+        }
+        query.setMaxResults(length);
+        List<Object[]> rowList = new ArrayList<>((List<Object[]>) getQueryResult(entityManager, QueryType.RESULT_LIST, queryTemplate, executedParameter, query, Query::getResultList));
+        if (isReversed) {
+            Collections.reverse(rowList);
+        }
+        List<E> resultList = new ArrayList<>();
+        for (Object[] row : rowList) {
+            resultList.add((E) row[0]);
+        }
+        if (!rowList.isEmpty()) {
+            putKeysetRow(listTemplate.getQuery(), listParameterValues, start, rowList.get(0));
+            putKeysetRow(listTemplate.getQuery(), listParameterValues, start + rowList.size() - 1, rowList.get(rowList.size() - 1));
+        }
+        return resultList;
+    }
+
+    private void putKeysetRow(String query, Map<String, Object> parameterValues, int index, Object[] row) {
+        List<Object> rowSortKeys = Arrays.asList(row).subList(1, row.length);
+        if (rowSortKeys.stream().allMatch(Objects::nonNull)) {
+            keysetPageCache.put(query, parameterValues, index, List.copyOf(rowSortKeys));
+        }
+    }
+
+    private static Map<String, String> getReversedSortKeys(Map<String, String> sortKeys) {
+        Map<String, String> reversedSortKeys = new LinkedHashMap<>();
+        sortKeys.forEach((field, direction) -> reversedSortKeys.put(field, getReversedDirection(direction)));
+        return reversedSortKeys;
+    }
+
+    private Map<String, String> getKeysetSortKeys() {
+        Map<String, String> sortKeys = new LinkedHashMap<>();
+        String entityAlias = aliasMap.get(entityName);
+        for (Order order : dataTablesParameter.getOrder()) {
+            Column column = dataTablesParameter.getColumns().get(order.getColumn());
+            if (!column.isOrderable()) {
+                continue;
+            }
+            ColumnDescriptor columnDescriptor = column.getDescriptor();
+            if (columnDescriptor.isMultiField() || columnDescriptor.isRelationship()
+                    || !entityMetadata.getNonNullableAttributes().contains(columnDescriptor.getAttributePath())
+                    || isBooleanType(entityMetadata.getAttributeType(columnDescriptor.getAttributePath()))) {
+                return null;
+            }
+            sortKeys.putIfAbsent(entityAlias + "." + columnDescriptor.getAttributePath(), order.getDir());
+        }
+        return sortKeys;
+    }
+
+    private static boolean isBooleanType(Class<?> type) {
+        return boolean.class.equals(type) || Boolean.class.equals(type);
+    }
+
+    String getSeekCondition(Map<String, String> sortKeys) {
+        List<String> seekConditionList = new ArrayList<>();
+        List<String> equalConditionList = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, String> sortKey : sortKeys.entrySet()) {
+            String namedParameter = ":keyset_" + index++;
+            String operator = "desc".equalsIgnoreCase(sortKey.getValue()) ? " < " : " > ";
+            List<String> conditionList = new ArrayList<>(equalConditionList);
+            conditionList.add(sortKey.getKey() + operator + namedParameter);
+            seekConditionList.add(conditionList.size() > 1 ? "(" + String.join(" And ", conditionList) + ")" : conditionList.get(0));
+            equalConditionList.add(sortKey.getKey() + " = " + namedParameter);
+        }
+        return "(" + String.join(" Or ", seekConditionList) + ")";
+    }
+
+    private RecordsCount getRecordsTotal(EntityManager entityManager, QueryParameter queryParameter) {
+        return recordPhase(DataTablesMetrics.Phase.TOTAL_COUNT, () -> {
+            if (Objects.nonNull(totalCountEstimator) && queryParameter.getWhereConditions().isEmpty() && queryParameter.getGroupByFields().isEmpty()) {
+                OptionalLong estimate = totalCountEstimator.estimate(entityManager, entityMetadata.getEntityClass());
+                if (estimate.isPresent()) {
+                    return RecordsCount.estimated(estimate.getAsLong());
+                }
+            }
+            return RecordsCount.exact(getRecordsTotalCount(entityManager, queryParameter));
+        });
     }
 
     long getRecordsTotalCount(EntityManager entityManager, QueryParameter queryParameter) {
         QueryParameter totalCountParameter = queryParameter.clone();
-        String queryString = getQuery(totalCountParameter, QueryType.TOTAL_COUNT);
-        Query query = entityManager.createQuery(queryString);
-        return (long) query.getSingleResult();
+        QueryTemplate queryTemplate = getQueryTemplate(totalCountParameter, QueryType.TOTAL_COUNT);
+        if (Objects.isNull(totalCountCache)) {
+            return getCount(entityManager, QueryType.TOTAL_COUNT, queryTemplate, totalCountParameter);
+        }
+        Map<String, Object> parameterValues = queryTemplate.getParameterValues(totalCountParameter);
+        return totalCountCache.get(entityMetadata.getEntityClass(), queryTemplate.getQuery(), parameterValues,
+                () -> getCount(entityManager, QueryType.TOTAL_COUNT, queryTemplate, totalCountParameter));
+    }
+
+    private RecordsCount getRecordsFiltered(EntityManager entityManager, QueryParameter queryParameter) {
+        return recordPhase(DataTablesMetrics.Phase.FILTERED_COUNT, () -> {
+            if (isFilteredCountCapped(queryParameter)) {
+                long count = getCappedRecordsFilteredCount(entityManager, queryParameter, filteredCountLimit);
+                return count > filteredCountLimit ? RecordsCount.capped(filteredCountLimit) : RecordsCount.exact(count);
+            }
+            return RecordsCount.exact(getRecordsFilteredCount(entityManager, queryParameter));
+        });
+    }
+
+    /**
+     * Checks whether the filtered count query stops counting after the filtered count limit.
+     * The capped count selects the identifiers of the entity, or the distinct group by fields,
+     * so the exact count is used for entities whose identifier attribute is not known.
+     *
+     * @param queryParameter the additional query parameters
+     * @return {@code true} if a filtered count limit is set and the matching rows can be selected as scalars, otherwise {@code false}.
+     */
+    boolean isFilteredCountCapped(QueryParameter queryParameter) {
+        return filteredCountLimit > 0 && (Objects.nonNull(entityMetadata.getIdAttribute()) || !queryParameter.getGroupByFields().isEmpty());
+    }
+
+    /**
+     * Returns the filtered record count, counting up to one record more than the specified limit.
+     * The matching rows are selected with the limit as maximum results instead of counting all of them.
+     *
+     * @param entityManager  the entity manager
+     * @param queryParameter the additional query parameters
+     * @param limit          the filtered count limit
+     * @return the filtered record count, which is {@code limit + 1} if there are more filtered records than the limit
+     */
+    long getCappedRecordsFilteredCount(EntityManager entityManager, QueryParameter queryParameter, int limit) {
+        QueryParameter filteredCountParameter = queryParameter.clone();
+        QueryTemplate queryTemplate = getQueryTemplate(filteredCountParameter, QueryType.CAPPED_FILTERED_COUNT);
+        Query query = createQuery(entityManager, queryTemplate.getQuery());
+        queryTemplate.setParameters(query, filteredCountParameter);
+        query.setMaxResults(limit + 1);
+        return getQueryResult(entityManager, QueryType.CAPPED_FILTERED_COUNT, queryTemplate, filteredCountParameter, query, Query::getResultList).size();
     }
 
     long getRecordsFilteredCount(EntityManager entityManager, QueryParameter queryParameter) {
         QueryParameter filteredCountParameter = queryParameter.clone();
-        String queryString = getQuery(filteredCountParameter, QueryType.FILTERED_COUNT);
-        Query query = entityManager.createQuery(queryString);
-        for (Map.Entry<String, Object> parameter : filteredCountParameter.entrySet()) {
-            query.setParameter(parameter.getKey(), parameter.getValue());
+        QueryTemplate queryTemplate = getQueryTemplate(filteredCountParameter, QueryType.FILTERED_COUNT);
+        return getCount(entityManager, QueryType.FILTERED_COUNT, queryTemplate, filteredCountParameter);
+    }
+
+    private long getCount(EntityManager entityManager, QueryType queryType, QueryTemplate queryTemplate, QueryParameter queryParameter) {
+        Query query = createQuery(entityManager, queryTemplate.getQuery());
+        queryTemplate.setParameters(query, queryParameter);
+        return (long) getQueryResult(entityManager, queryType, queryTemplate, queryParameter, query, Query::getSingleResult);
+    }
+
+    private <T> T getQueryResult(EntityManager entityManager, QueryType queryType, QueryTemplate queryTemplate, QueryParameter queryParameter,
+                                 Query query, Function<Query, T> queryExecution) {
+        if (Objects.isNull(slowQueryLog)) {
+            return queryExecution.apply(query);
         }
-        return (long) query.getSingleResult();
+        long startTime = System.nanoTime();
+        T result = queryExecution.apply(query);
+        long duration = System.nanoTime() - startTime;
+        if (slowQueryLog.isSlow(duration)) {
+            DatabaseDialect dialect = Objects.nonNull(databaseDialect) ? databaseDialect : DatabaseDialect.of(entityManager).orElse(null);
+            slowQueryLog.log(entityManager, dialect, entityMetadata.getEntityClass(), queryType.name(), queryTemplate.getQuery(),
+                    queryTemplate.getParameterValues(queryParameter), (EntityGraph<?>) query.getHints().get(FETCH_GRAPH_HINT), duration);
+        }
+        return result;
     }
 
     String getSelectCountClause(QueryParameter queryParameter) {
@@ -122,55 +1032,188 @@ public class DataTables<E> {
         return stringBuilder.toString();
     }
 
+    String getSelectCappedCountClause(QueryParameter queryParameter) {
+        Set<String> groupByFields = queryParameter.getGroupByFields();
+        if (!groupByFields.isEmpty()) {
+            Set<String> groupByFieldsWithAlias = new LinkedHashSet<>();
+            for (String field : groupByFields) {
+                groupByFieldsWithAlias.add(getClauseWithAlias(field));
+            }
+            return "Select Distinct " + String.join(", ", groupByFieldsWithAlias);
+        }
+        return "Select " + aliasMap.get(entityName) + "." + entityMetadata.getIdAttribute();
+    }
+
     String getQuery(QueryParameter queryParameter, QueryType queryType) {
+        return getQueryTemplate(queryParameter, queryType).getQuery();
+    }
+
+    /**
+     * Returns the query template for the shape of the request and puts the search values to the query parameters.
+     *
+     * @param queryParameter the additional query parameters
+     * @param queryType      the query type
+     * @return the query template
+     */
+    QueryTemplate getQueryTemplate(QueryParameter queryParameter, QueryType queryType) {
+        return getQueryTemplate(queryParameter, queryType, false);
+    }
+
+    /**
+     * Returns the query template for the shape of the request and puts the search values to the query parameters.
+     *
+     * @param queryParameter the additional query parameters
+     * @param queryType      the query type
+     * @param reversedOrder  whether the directions of the datatables order are reversed
+     * @return the query template
+     */
+    QueryTemplate getQueryTemplate(QueryParameter queryParameter, QueryType queryType, boolean reversedOrder) {
+        return recordPhase(DataTablesMetrics.Phase.BUILD, () -> {
+            List<Order> orders = getOrders(reversedOrder);
+            QueryShape queryShape = getQueryShape(queryParameter, queryType, orders);
+            QueryTemplate queryTemplate = QUERY_TEMPLATE_CACHE.get(queryShape, () -> buildQueryTemplate(queryParameter, queryType, orders));
+            queryTemplate.bind(queryParameter, getSearchStrings());
+            return queryTemplate;
+        });
+    }
+
+    private QueryTemplate buildQueryTemplate(QueryParameter queryParameter, QueryType queryType, List<Order> orders) {
+        List<QueryTemplate.SearchBinding> searchBindings = new ArrayList<>();
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append(getSelectClause(queryParameter, queryType));
-        stringBuilder.append(getFromClause(queryType));
-        stringBuilder.append(getWhereClause(queryParameter, queryType));
+        stringBuilder.append(getFromClause(queryParameter, queryType));
+        stringBuilder.append(getWhereClause(queryParameter, queryType, searchBindings));
         stringBuilder.append(getGroupByClause(queryParameter, queryType));
-        stringBuilder.append(getOrderClause(queryParameter, queryType));
-        return stringBuilder.toString();
+        stringBuilder.append(getOrderClause(queryParameter, queryType, orders));
+        return new QueryTemplate(stringBuilder.toString(), searchBindings);
+    }
+
+    QueryShape getQueryShape(QueryParameter queryParameter, QueryType queryType, List<Order> resultOrders) {
+        boolean isResultList = queryType.equals(QueryType.RESULT_LIST);
+        List<QueryShape.ColumnShape> columnShapes = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        String indexedSearchCondition = queryType.equals(QueryType.TOTAL_COUNT) ? "" : getIndexedSearchCondition(queryParameter);
+        if (!queryType.equals(QueryType.TOTAL_COUNT)) {
+            List<Column> columnList = dataTablesParameter.getColumns();
+            for (int index = 0; index < columnList.size(); index++) {
+                Column column = columnList.get(index);
+                boolean isSearched = !"".equals(getSearchString(column));
+                columnShapes.add(new QueryShape.ColumnShape(column.getData(), column.getFormat(), column.isSearchable(), column.isOrderable(),
+                        isSearched, !"".equals(indexedSearchCondition) && isIndexedSearchColumn(queryParameter, index), isSearched && isSearchMatchable(column), column.getMatchStrategy(), column.isCaseInsensitiveCollation(),
+                        isSearched && isRegexSearch(column), isSearched && isRegexSearch(column) && !"".equals(getRegexLiteralPrefix(getSearchString(column))),
+                        isSearched && getDateSearchRange(column, getSearchString(column)).isPresent()));
+            }
+        }
+        if (isResultList) {
+            for (Order order : resultOrders) {
+                orders.add(new Order(order.getColumn(), order.getDir()));
+            }
+        }
+        return new QueryShape(entityMetadata.getEntityClass(), Objects.isNull(databaseDialect) ? null : databaseDialect.getClass(), queryType, queryParameter.size(),
+                isResultList ? queryParameter.getSelectClause() : "",
+                List.copyOf(queryParameter.getWhereConditions()),
+                List.copyOf(queryParameter.getGroupByFields()),
+                isResultList ? List.copyOf(queryParameter.getHavingConditions()) : List.of(),
+                isResultList ? List.copyOf(queryParameter.getOrderConditions()) : List.of(),
+                indexedSearchCondition, columnShapes, orders);
+    }
+
+    private List<String> getSearchStrings() {
+        List<String> searchStrings = new ArrayList<>();
+        for (Column column : dataTablesParameter.getColumns()) {
+            searchStrings.add(getSearchString(column));
+        }
+        return searchStrings;
     }
 
     private String getSelectClause(QueryParameter queryParameter, QueryType queryType) {
-        if (!queryType.equals(QueryType.RESULT_LIST)) {
+        if (queryType.equals(QueryType.CAPPED_FILTERED_COUNT)) {
+            return getSelectCappedCountClause(queryParameter);
+        } else if (!queryType.equals(QueryType.RESULT_LIST)) {
             return getSelectCountClause(queryParameter);
         } else if (queryParameter.getSelectClause().isEmpty()) {
             return "Select " + aliasMap.get(entityName);
         } else {
-            return queryParameter.getSelectClause();
+            return getClauseWithAlias(queryParameter.getSelectClause());
         }
     }
 
-    String getFromClause(QueryType queryType) {
+    String getFromClause(QueryParameter queryParameter, QueryType queryType) {
         StringBuilder stringBuilder = new StringBuilder();
+        Set<String> joinedAssociations = getJoinedAssociations(queryParameter, queryType);
         stringBuilder.append(" From ");
         stringBuilder.append(entityName);
         stringBuilder.append(" ");
         stringBuilder.append(aliasMap.get(entityName));
-        if (!queryType.equals(QueryType.TOTAL_COUNT)) {
+        if (!joinedAssociations.isEmpty()) {
             stringBuilder.append(" ");
-            stringBuilder.append(getLeftJoinClause());
+            stringBuilder.append(getLeftJoinClause(joinedAssociations));
         }
         return stringBuilder.toString();
     }
 
-    String getLeftJoinClause() {
+    /**
+     * Returns the associations referenced by the query of the specified type.
+     * Only these associations are joined, the others are left out of the query.
+     *
+     * @param queryParameter the additional query parameters
+     * @param queryType      the query type
+     * @return the associations to be joined
+     */
+    Set<String> getJoinedAssociations(QueryParameter queryParameter, QueryType queryType) {
+        Set<String> joinedAssociations = new HashSet<>();
+        List<String> clauses = new ArrayList<>(queryParameter.getWhereConditions());
+        clauses.addAll(queryParameter.getGroupByFields());
+        if (!queryType.equals(QueryType.TOTAL_COUNT)) {
+            for (Column column : dataTablesParameter.getColumns()) {
+                if (column.isSearchable() && !"".equals(getSearchString(column))) {
+                    addColumnAssociations(joinedAssociations, column.getDescriptor());
+                }
+            }
+        }
+        if (queryType.equals(QueryType.RESULT_LIST)) {
+            clauses.add(queryParameter.getSelectClause());
+            clauses.addAll(queryParameter.getHavingConditions());
+            clauses.addAll(queryParameter.getOrderConditions());
+            for (Order order : dataTablesParameter.getOrder()) {
+                Column column = dataTablesParameter.getColumns().get(order.getColumn());
+                if (column.isOrderable()) {
+                    addColumnAssociations(joinedAssociations, column.getDescriptor());
+                }
+            }
+        }
+        for (String clause : clauses) {
+            joinedAssociations.addAll(entityMetadata.getReferencedAssociations(clause));
+        }
+        return joinedAssociations;
+    }
+
+    private void addColumnAssociations(Set<String> associations, ColumnDescriptor columnDescriptor) {
+        if (columnDescriptor.isMultiField()) {
+            for (ColumnDescriptor subColumnDescriptor : columnDescriptor.getSubColumnList()) {
+                addColumnAssociations(associations, subColumnDescriptor);
+            }
+        } else if (columnDescriptor.isRelationship() && aliasMap.containsKey(columnDescriptor.getBaseField())) {
+            associations.add(columnDescriptor.getBaseField());
+        }
+    }
+
+    String getLeftJoinClause(Set<String> associations) {
         Set<String> leftJoinSet = new LinkedHashSet<>();
         String entityAlias = aliasMap.get(entityName);
         for (Map.Entry<String, String> aliasEntry : aliasMap.entrySet()) {
-            if (!aliasEntry.getKey().equals(entityName)) {
+            if (associations.contains(aliasEntry.getKey())) {
                 leftJoinSet.add("Left Join " + entityAlias + "." + aliasEntry.getKey() + " " + aliasEntry.getValue());
             }
         }
         return String.join(" ", leftJoinSet);
     }
 
-    String getWhereClause(QueryParameter queryParameter, QueryType queryType) {
+    private String getWhereClause(QueryParameter queryParameter, QueryType queryType, List<QueryTemplate.SearchBinding> searchBindings) {
         Set<String> whereConditionsWithAlias = new LinkedHashSet<>();
         Set<String> whereConditions = queryParameter.getWhereConditions();
         if (!queryType.equals(QueryType.TOTAL_COUNT)) {
-            addSearchCondition(whereConditionsWithAlias, queryParameter);
+            addSearchCondition(whereConditionsWithAlias, queryParameter, searchBindings);
         }
         for (String condition : whereConditions) {
             whereConditionsWithAlias.add(getClauseWithAlias(condition));
@@ -181,8 +1224,8 @@ public class DataTables<E> {
         return "";
     }
 
-    private void addSearchCondition(Set<String> whereConditions, QueryParameter queryParameter) {
-        String searchCondition = getSearchCondition(queryParameter);
+    private void addSearchCondition(Set<String> whereConditions, QueryParameter queryParameter, List<QueryTemplate.SearchBinding> searchBindings) {
+        String searchCondition = getSearchCondition(queryParameter, searchBindings);
         if (!"".equals(searchCondition)) {
             whereConditions.add(searchCondition);
         }
@@ -219,9 +1262,9 @@ public class DataTables<E> {
         return "";
     }
 
-    String getOrderClause(QueryParameter queryParameter, QueryType queryType) {
+    String getOrderClause(QueryParameter queryParameter, QueryType queryType, List<Order> orders) {
         if (queryType.equals(QueryType.RESULT_LIST)) {
-            Set<String> orderConditionsWithAlias = getOrderableColumnsConditions();
+            Set<String> orderConditionsWithAlias = getOrderableColumnsConditions(orders);
             Set<String> orderConditions = queryParameter.getOrderConditions();
             for (String condition : orderConditions)
                 orderConditionsWithAlias.add(getClauseWithAlias(condition));
@@ -231,9 +1274,9 @@ public class DataTables<E> {
         return "";
     }
 
-    private Set<String> getOrderableColumnsConditions() {
+    private Set<String> getOrderableColumnsConditions(List<Order> orders) {
         Set<String> orderableColumnsConditions = new LinkedHashSet<>();
-        for (Order order : dataTablesParameter.getOrder()) {
+        for (Order order : orders) {
             int index = order.getColumn();
             io.github.cptimario.datatables.components.Column column = dataTablesParameter.getColumns().get(index);
             if (column.isOrderable()) {
@@ -243,17 +1286,30 @@ public class DataTables<E> {
         return orderableColumnsConditions;
     }
 
+    private List<Order> getOrders(boolean reversedOrder) {
+        if (!reversedOrder) {
+            return dataTablesParameter.getOrder();
+        }
+        List<Order> reversedOrders = new ArrayList<>();
+        for (Order order : dataTablesParameter.getOrder()) {
+            reversedOrders.add(new Order(order.getColumn(), getReversedDirection(order.getDir())));
+        }
+        return reversedOrders;
+    }
+
+    private static String getReversedDirection(String direction) {
+        return "desc".equalsIgnoreCase(direction) ? "asc" : "desc";
+    }
+
     String getClauseWithAlias(String field) {
-        String entityAlias = aliasMap.get(entityName);
-        String regex = entityAlias + "\\.(?<field>\\w+)(?:\\.\\w+)+";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(field);
-        if (matcher.find()) {
-            String fieldName = matcher.group("field");
-            String alias = aliasMap.get(fieldName);
-            return field.replace(entityAlias + "." + fieldName, alias);
+        Matcher matcher = entityMetadata.getAssociationPathPattern().matcher(field);
+        StringBuilder stringBuilder = new StringBuilder();
+        while (matcher.find()) {
+            String alias = aliasMap.get(matcher.group("field"));
+            matcher.appendReplacement(stringBuilder, Matcher.quoteReplacement(Objects.nonNull(alias) ? alias : matcher.group()));
         }
-        return field;
+        matcher.appendTail(stringBuilder);
+        return stringBuilder.toString();
     }
 
     private String getOrderCondition(Order order) {
@@ -264,18 +1320,52 @@ public class DataTables<E> {
     }
 
     String getSearchCondition(QueryParameter queryParameter) {
+        List<QueryTemplate.SearchBinding> searchBindings = new ArrayList<>();
+        String searchCondition = getSearchCondition(queryParameter, searchBindings);
+        new QueryTemplate(searchCondition, searchBindings).bind(queryParameter, getSearchStrings());
+        return searchCondition;
+    }
+
+    private String getSearchCondition(QueryParameter queryParameter, List<QueryTemplate.SearchBinding> searchBindings) {
         StringBuilder stringBuilder = new StringBuilder();
         List<String> searchQueryList = new ArrayList<>();
-        for (io.github.cptimario.datatables.components.Column column : dataTablesParameter.getColumns()) {
+        List<Column> columnList = dataTablesParameter.getColumns();
+        int parameterOffset = queryParameter.size();
+        boolean isSearched = false;
+        String indexedSearchCondition = getIndexedSearchCondition(queryParameter);
+        boolean isIndexedSearch = !"".equals(indexedSearchCondition);
+        if (isIndexedSearch) {
+            searchQueryList.add(indexedSearchCondition);
+        }
+        for (int index = 0; index < columnList.size(); index++) {
+            Column column = columnList.get(index);
             String searchString = getSearchString(column);
-            if (column.isSearchable() && !"".equals(searchString)) {
+            if (column.isSearchable() && !"".equals(searchString) && !(isIndexedSearch && isIndexedSearchColumn(queryParameter, index))) {
+                isSearched = true;
+                if (!isSearchMatchable(column)) {
+                    continue;
+                }
                 String fieldName = getQueryFieldName(column, true);
-                String namedParameter = "value_" + queryParameter.size();
-                String fieldQuery = getFieldQuery(fieldName, namedParameter);
-                searchQueryList.add(fieldQuery);
-                queryParameter.put(namedParameter, escapeWildcards(searchString));
+                String namedParameter = "value_" + (parameterOffset + searchBindings.size());
+                MatchStrategy matchStrategy = getMatchStrategy(column);
+                Class<?> searchType = getTypedSearchType(column);
+                if (isRegexSearch(column)) {
+                    searchQueryList.add(getRegexFieldQuery(fieldName, index, column, parameterOffset, searchBindings));
+                } else if (getDateSearchRange(column, searchString).isPresent()) {
+                    searchQueryList.add(getDateRangeFieldQuery(index, column, parameterOffset, searchBindings));
+                } else if (Objects.nonNull(searchType)) {
+                    searchQueryList.add(fieldName + (searchType.isEnum() ? " In (:" + namedParameter + ")" : " = :" + namedParameter));
+                    searchBindings.add(new QueryTemplate.SearchBinding(namedParameter, index,
+                            searchText -> SearchValueConverter.convert(searchType, searchText, matchStrategy).orElseThrow()));
+                } else {
+                    searchQueryList.add(getFieldQuery(fieldName, namedParameter, matchStrategy, column.isCaseInsensitiveCollation()));
+                    searchBindings.add(new QueryTemplate.SearchBinding(namedParameter, index, getSearchValueFunction(matchStrategy)));
+                }
             }
         }
+        if (searchQueryList.isEmpty() && isSearched) {
+            return "1 = 0";
+        }
         if (!searchQueryList.isEmpty()) {
             stringBuilder.append("(");
             stringBuilder.append(String.join(" Or ", searchQueryList));
@@ -284,8 +1374,148 @@ public class DataTables<E> {
         return stringBuilder.toString();
     }
 
-    String escapeWildcards(String searchText) {
-        return searchText.replaceAll("([#%_])", "#$1");
+    static String escapeWildcards(String searchText) {
+        return WILDCARD_PATTERN.matcher(searchText).replaceAll("#$1");
+    }
+
+    /**
+     * Returns the type of the attribute of the column if it is searched by its typed value instead of a text match.
+     *
+     * @param column the datatables column
+     * @return the numeric, boolean, {@link UUID} or enum type of the attribute, otherwise {@code null}.
+     */
+    Class<?> getTypedSearchType(Column column) {
+        if (column.isMultiField() || Objects.nonNull(column.getFormat())) {
+            return null;
+        }
+        Class<?> type = getAttributeType(column);
+        return Objects.nonNull(type) && SearchValueConverter.isTyped(type) ? type : null;
+    }
+
+    private Class<?> getAttributeType(Column column) {
+        ColumnDescriptor columnDescriptor = column.getDescriptor();
+        String attributePath = columnDescriptor.isRelationship() ?
+                columnDescriptor.getBaseField() + "." + columnDescriptor.getAttributePath() : columnDescriptor.getAttributePath();
+        return entityMetadata.getAttributePathType(attributePath);
+    }
+
+    /**
+     * Returns the range of dates matched by the search value of a formatted date column.
+     *
+     * @param column     the datatables column
+     * @param searchText the search text
+     * @return the date range, or an empty value if the column is not a formatted single-field column or the search text cannot be mapped to a range
+     */
+    Optional<DateSearchRange> getDateSearchRange(Column column, String searchText) {
+        if (column.isMultiField() || Objects.isNull(column.getFormat())) {
+            return Optional.empty();
+        }
+        Class<?> type = getAttributeType(column);
+        return Objects.isNull(type) ? Optional.empty() : DateSearchRange.of(column.getFormat(), searchText, type);
+    }
+
+    private boolean isSearchMatchable(Column column) {
+        Class<?> searchType = getTypedSearchType(column);
+        if (Objects.nonNull(searchType) && isRegexSearch(column)) {
+            return false;
+        }
+        return Objects.isNull(searchType) || SearchValueConverter.convert(searchType, getSearchString(column), getMatchStrategy(column)).isPresent();
+    }
+
+    private String getDateRangeFieldQuery(int columnIndex, Column column, int parameterOffset, List<QueryTemplate.SearchBinding> searchBindings) {
+        String fieldName = getQueryFieldName(column);
+        String format = column.getFormat();
+        Class<?> type = getAttributeType(column);
+        String fromParameter = "value_" + (parameterOffset + searchBindings.size());
+        searchBindings.add(new QueryTemplate.SearchBinding(fromParameter, columnIndex, searchText -> DateSearchRange.of(format, searchText, type).orElseThrow().getFrom()));
+        String toParameter = "value_" + (parameterOffset + searchBindings.size());
+        searchBindings.add(new QueryTemplate.SearchBinding(toParameter, columnIndex, searchText -> DateSearchRange.of(format, searchText, type).orElseThrow().getTo()));
+        return "(" + fieldName + " >= :" + fromParameter + " And " + fieldName + " < :" + toParameter + ")";
+    }
+
+    private String getRegexFieldQuery(String fieldName, int columnIndex, Column column, int parameterOffset, List<QueryTemplate.SearchBinding> searchBindings) {
+        String regexParameter = "value_" + (parameterOffset + searchBindings.size());
+        String regexCondition = databaseDialect.getRegexCondition(fieldName, regexParameter);
+        searchBindings.add(new QueryTemplate.SearchBinding(regexParameter, columnIndex, searchText -> searchText));
+        if ("".equals(getRegexLiteralPrefix(getSearchString(column)))) {
+            return regexCondition;
+        }
+        String prefixParameter = "value_" + (parameterOffset + searchBindings.size());
+        String prefixCondition = getFieldQuery(fieldName, prefixParameter, MatchStrategy.PREFIX, column.isCaseInsensitiveCollation());
+        searchBindings.add(new QueryTemplate.SearchBinding(prefixParameter, columnIndex, searchText -> escapeWildcards(getRegexLiteralPrefix(searchText)) + "%"));
+        return "(" + prefixCondition + " And " + regexCondition + ")";
+    }
+
+    /**
+     * Returns the literal text which every match of an anchored regular expression starts with.
+     * The literal prefix allows the regular expression search to be pre-filtered with an index-friendly like condition.
+     *
+     * @param regex the regular expression
+     * @return the literal prefix, or an empty string if the regular expression is not anchored or has no literal prefix
+     */
+    static String getRegexLiteralPrefix(String regex) {
+        if (!regex.startsWith("^") || regex.contains("|")) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int index = 1;
+        while (index < regex.length()) {
+            char character = regex.charAt(index);
+            if (character == '\\' && index + 1 < regex.length() && REGEX_METACHARACTERS.indexOf(regex.charAt(index + 1)) >= 0) {
+                character = regex.charAt(++index);
+            } else if (REGEX_METACHARACTERS.indexOf(character) >= 0) {
+                break;
+            }
+            index++;
+            if (index < regex.length() && "*?{".indexOf(regex.charAt(index)) >= 0) {
+                break;
+            }
+            prefix.append(character);
+        }
+        return prefix.toString();
+    }
+
+    private static MatchStrategy getMatchStrategy(Column column) {
+        return Objects.requireNonNullElse(column.getMatchStrategy(), MatchStrategy.CONTAINS);
+    }
+
+    private static Function<String, Object> getSearchValueFunction(MatchStrategy matchStrategy) {
+        switch (matchStrategy) {
+            case PREFIX:
+                return searchText -> escapeWildcards(searchText) + "%";
+            case EXACT:
+                return searchText -> searchText;
+            default:
+                return DataTables::escapeWildcards;
+        }
+    }
+
+    /**
+     * Returns the search condition of the field using the specified match strategy.
+     * The field is only wrapped in the 'Upper' function if its collation is not case-insensitive.
+     *
+     * @param fieldName                the query field name
+     * @param namedParameter           the named parameter of the search value
+     * @param matchStrategy            the match strategy
+     * @param caseInsensitiveCollation whether the field has a case-insensitive collation
+     * @return the search condition of the field
+     */
+    String getFieldQuery(String fieldName, String namedParameter, MatchStrategy matchStrategy, boolean caseInsensitiveCollation) {
+        if (matchStrategy.equals(MatchStrategy.CONTAINS) && !caseInsensitiveCollation) {
+            return getFieldQuery(fieldName, namedParameter);
+        }
+        String field = caseInsensitiveCollation ? fieldName : "Upper(" + fieldName + ")";
+        String value;
+        if (matchStrategy.equals(MatchStrategy.CONTAINS)) {
+            value = "Concat('%', :" + namedParameter + ", '%')";
+        } else {
+            value = ":" + namedParameter;
+        }
+        value = caseInsensitiveCollation ? value : "Upper(" + value + ")";
+        if (matchStrategy.equals(MatchStrategy.EXACT)) {
+            return field + " = " + value;
+        }
+        return field + " Like " + value + " Escape '#'";
     }
 
     String getFieldQuery(String fieldName, String namedParameter) {
@@ -316,13 +1546,10 @@ public class DataTables<E> {
 
     private String getSingleFieldColumnQueryFieldName(io.github.cptimario.datatables.components.Column column, boolean isFormatted) {
         StringBuilder stringBuilder = new StringBuilder();
-        String fieldName = column.getData();
         String alias = getColumnAlias(column);
         stringBuilder.append(alias);
         stringBuilder.append(".");
-        int startIndex = fieldName.indexOf(".") + 1;
-        fieldName = fieldName.substring(startIndex);
-        stringBuilder.append(fieldName);
+        stringBuilder.append(column.getDescriptor().getAttributePath());
         if (isFormatted && Objects.nonNull(column.getFormat())) {
             return "function('date_format', " + stringBuilder.toString() + ", '" + column.getFormat() + "')";
         }
@@ -352,37 +1579,4 @@ public class DataTables<E> {
         }
         return aliasMap.get(entityName);
     }
-
-    private void initializeAliasMap(Class<E> entity) {
-        aliasMap = new LinkedHashMap<>();
-        aliasMap.put(entityName, getCamelCase(entityName));
-        Field[] entityFields = entity.getDeclaredFields();
-        for (Field field : entityFields) {
-            registerAlias(field);
-        }
-    }
-
-    private void registerAlias(Field field) {
-        if (field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class)) {
-            registerAlias(field.getName());
-        }
-    }
-
-    private void registerAlias(String fieldName) {
-        if (Objects.isNull(aliasMap.get(fieldName))) {
-            String alias = getAliasPrefix(fieldName) + "_" + aliasMap.size();
-            aliasMap.put(fieldName, alias);
-        }
-    }
-
-    private String getCamelCase(String text) {
-        if (Objects.nonNull(text) && !"".equals(text.trim()))
-            return Character.toLowerCase(text.charAt(0)) + text.substring(1);
-        return "";
-    }
-
-    private String getAliasPrefix(String field) {
-        String prefix = field.length() > 5 ? field.substring(0, 5) : field;
-        return getCamelCase(prefix);
-    }
 }
@@ -0,0 +1,75 @@
+package io.github.cptimario.datatables;
+
+import java.util.Locale;
+
+/**
+ * DataTablesMetrics interface records the durations of the query phases and the sizes of the datatables responses.
+ * All the methods do nothing by default.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ * @see MicrometerDataTablesMetrics
+ */
+public interface DataTablesMetrics {
+    /**
+     * Metrics which record nothing
+     */
+    DataTablesMetrics NONE = new DataTablesMetrics() {
+    };
+
+    /**
+     * Phase enum lists the timed phases of a datatables response.
+     */
+    enum Phase {
+        /**
+         * Building the queries of the request, or looking them up in the query template cache
+         */
+        BUILD,
+        /**
+         * Executing the result list query
+         */
+        RESULT,
+        /**
+         * Counting or estimating the total records
+         */
+        TOTAL_COUNT,
+        /**
+         * Counting the filtered records
+         */
+        FILTERED_COUNT,
+        /**
+         * Writing the rows of a streamed response
+         */
+        SERIALIZATION;
+
+        /**
+         * Returns the tag value of this phase, such as {@code total-count}
+         *
+         * @return the tag value
+         */
+        public String getTagValue() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    /**
+     * Records the duration of a phase of a datatables response.
+     *
+     * @param entity        the entity class
+     * @param phase         the phase
+     * @param durationNanos the duration in nanoseconds
+     */
+    default void recordPhase(Class<?> entity, Phase phase, long durationNanos) {
+    }
+
+    /**
+     * Records the sizes of a datatables response.
+     *
+     * @param entity       the entity class
+     * @param pageLength   the requested page length, which is {@code -1} for all the records
+     * @param rowCount     the number of returned rows
+     * @param searchLength the length of the global search value
+     */
+    default void recordResponse(Class<?> entity, int pageLength, int rowCount, int searchLength) {
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.cptimario.datatables;
 
 import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.MatchStrategy;
 import io.github.cptimario.datatables.components.Order;
 import io.github.cptimario.datatables.components.Search;
 import lombok.AccessLevel;
@@ -59,14 +60,34 @@ public class DataTablesParameter {
         search.setValue(searchValue);
     }
 
+    /**
+     * Checks whether the search parameter received from the client side is a regular expression
+     *
+     * @return {@code true} if the search text value is a regular expression, otherwise {@code false}.
+     */
+    public boolean isSearchRegex() {
+        return search.isRegex();
+    }
+
+    /**
+     * Sets whether the search parameter is a regular expression
+     *
+     * @param isRegex the flag for using regex in the search process
+     */
+    public void setSearchRegex(boolean isRegex) {
+        search.setRegex(isRegex);
+    }
+
     /**
      * Sets the sql date format for the column.
      *
      * @param format        sql date format
      * @param columnIndexes indexes of the columns to be formatted
-     * @apiNote This method will format the columns which contains dates so that they can be searched properly
-     * @implSpec The database used must support the 'date_format'
-     * @implNote This implementation will use the 'date_format' function from the database.
+     * @apiNote This method will format the columns which contains dates so that they can be searched properly.
+     * A search value which is the beginning of a formatted date, such as "2024-03" for {@code %Y-%m-%d},
+     * is searched as the range of dates it covers, so that the index on the column can be used.
+     * @implSpec The database used must support the 'date_format' for the other search values
+     * @implNote This implementation will use the 'date_format' function from the database for the search values which cannot be mapped to a range.
      * If the database used does not support this function, it will throw an exception.
      */
     public void setDateColumnFormat(String format, int... columnIndexes) {
@@ -82,4 +103,44 @@ public class DataTablesParameter {
             }
         }
     }
+
+    /**
+     * Sets the match strategy for the column.
+     *
+     * @param matchStrategy match strategy of the search value
+     * @param columnIndexes indexes of the columns to be matched
+     * @apiNote Prefix and exact matches can be served by the index of the column, unlike the default contains match.
+     */
+    public void setColumnMatchStrategy(MatchStrategy matchStrategy, int... columnIndexes) {
+        List<Column> columnList = getColumns();
+        for (int index : columnIndexes) {
+            Column column = columnList.get(index);
+            column.setMatchStrategy(matchStrategy);
+            if (column.isMultiField()) {
+                for (Column subColumn : column.getSubColumnList()) {
+                    subColumn.setMatchStrategy(matchStrategy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the columns as stored with a case-insensitive collation.
+     *
+     * @param columnIndexes indexes of the columns with case-insensitive collation
+     * @apiNote The columns are compared to the search value as they are, without the 'Upper' function,
+     * so that their index can be used. The database collation then decides whether the match is case-insensitive.
+     */
+    public void setCaseInsensitiveColumnCollation(int... columnIndexes) {
+        List<Column> columnList = getColumns();
+        for (int index : columnIndexes) {
+            Column column = columnList.get(index);
+            column.setCaseInsensitiveCollation(true);
+            if (column.isMultiField()) {
+                for (Column subColumn : column.getSubColumnList()) {
+                    subColumn.setCaseInsensitiveCollation(true);
+                }
+            }
+        }
+    }
 }
@@ -17,6 +17,9 @@ public class DataTablesResponse<E> {
     private int draw;
     private long recordsTotal;
     private long recordsFiltered;
+    private boolean recordsTotalEstimated;
+    private boolean recordsFilteredEstimated;
+    private boolean recordsFilteredCapped;
     private List<?> data;
     private String error;
 
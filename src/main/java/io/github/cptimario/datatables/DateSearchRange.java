@@ -0,0 +1,124 @@
+package io.github.cptimario.datatables;
+
+import lombok.Value;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * DateSearchRange class holds the range of dates matched by a partial search text of a formatted date column.
+ * The search text is parsed against the 'date_format' format of the column, so that "2024-03" searched
+ * on a column formatted as {@code %Y-%m-%d} is the range from March 1, 2024 until April 1, 2024.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Value
+class DateSearchRange {
+    private static final List<ChronoUnit> UNITS = List.of(ChronoUnit.YEARS, ChronoUnit.MONTHS, ChronoUnit.DAYS,
+            ChronoUnit.HOURS, ChronoUnit.MINUTES, ChronoUnit.SECONDS);
+    private static final Map<Character, ChronoUnit> SPECIFIER_UNITS = Map.of(
+            'Y', ChronoUnit.YEARS, 'm', ChronoUnit.MONTHS, 'c', ChronoUnit.MONTHS, 'd', ChronoUnit.DAYS, 'e', ChronoUnit.DAYS,
+            'H', ChronoUnit.HOURS, 'k', ChronoUnit.HOURS, 'i', ChronoUnit.MINUTES, 's', ChronoUnit.SECONDS, 'S', ChronoUnit.SECONDS);
+
+    Object from;
+    Object to;
+
+    /**
+     * Returns the range of dates matched by the search text, as values of the attribute type.
+     *
+     * @param format     the 'date_format' format of the column
+     * @param searchText the search text
+     * @param type       the attribute type of the column
+     * @return the date range, or an empty value if the search text cannot be mapped to a range
+     */
+    static Optional<DateSearchRange> of(String format, String searchText, Class<?> type) {
+        Map<ChronoUnit, Integer> values = parse(format, searchText.trim());
+        if (values.isEmpty() || !values.keySet().equals(new HashSet<>(UNITS.subList(0, values.size())))) {
+            return Optional.empty();
+        }
+        ChronoUnit unit = UNITS.get(values.size() - 1);
+        try {
+            LocalDateTime from = LocalDateTime.of(values.get(ChronoUnit.YEARS), values.getOrDefault(ChronoUnit.MONTHS, 1),
+                    values.getOrDefault(ChronoUnit.DAYS, 1), values.getOrDefault(ChronoUnit.HOURS, 0),
+                    values.getOrDefault(ChronoUnit.MINUTES, 0), values.getOrDefault(ChronoUnit.SECONDS, 0));
+            return convert(from, from.plus(1, unit), unit, type);
+        } catch (DateTimeException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<ChronoUnit, Integer> parse(String format, String text) {
+        Map<ChronoUnit, Integer> values = new HashMap<>();
+        int position = 0;
+        int index = 0;
+        while (index < format.length() && position < text.length()) {
+            char character = format.charAt(index);
+            if (character == '%' && index + 1 < format.length() && format.charAt(index + 1) != '%') {
+                ChronoUnit unit = SPECIFIER_UNITS.get(format.charAt(index + 1));
+                if (Objects.isNull(unit) || values.containsKey(unit)) {
+                    return Map.of();
+                }
+                int width = unit == ChronoUnit.YEARS ? 4 : 2;
+                boolean isPadded = "YmdHisS".indexOf(format.charAt(index + 1)) >= 0;
+                int end = position;
+                while (end < text.length() && end - position < width && Character.isDigit(text.charAt(end))) {
+                    end++;
+                }
+                boolean isComplete = end - position == width || (!isPadded && end > position && end < text.length());
+                if (!isComplete) {
+                    return Map.of();
+                }
+                values.put(unit, Integer.parseInt(text.substring(position, end)));
+                position = end;
+                index += 2;
+            } else {
+                int length = character == '%' ? 2 : 1;
+                char literal = format.charAt(index + length - 1);
+                if (text.charAt(position) != literal) {
+                    return Map.of();
+                }
+                position++;
+                index += length;
+            }
+        }
+        return position == text.length() ? values : Map.of();
+    }
+
+    private static Optional<DateSearchRange> convert(LocalDateTime from, LocalDateTime to, ChronoUnit unit, Class<?> type) {
+        boolean isDateUnit = unit.compareTo(ChronoUnit.DAYS) >= 0;
+        if (LocalDate.class.equals(type) && isDateUnit) {
+            return Optional.of(new DateSearchRange(from.toLocalDate(), to.toLocalDate()));
+        } else if (java.sql.Date.class.equals(type) && isDateUnit) {
+            return Optional.of(new DateSearchRange(java.sql.Date.valueOf(from.toLocalDate()), java.sql.Date.valueOf(to.toLocalDate())));
+        } else if (LocalDateTime.class.equals(type)) {
+            return Optional.of(new DateSearchRange(from, to));
+        } else if (Date.class.isAssignableFrom(type) && !java.sql.Date.class.equals(type) && !java.sql.Time.class.equals(type)) {
+            return Optional.of(new DateSearchRange(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        }
+        ZoneId zoneId = ZoneId.systemDefault();
+        if (Instant.class.equals(type)) {
+            return Optional.of(new DateSearchRange(from.atZone(zoneId).toInstant(), to.atZone(zoneId).toInstant()));
+        } else if (ZonedDateTime.class.equals(type)) {
+            return Optional.of(new DateSearchRange(from.atZone(zoneId), to.atZone(zoneId)));
+        } else if (OffsetDateTime.class.equals(type)) {
+            return Optional.of(new DateSearchRange(from.atZone(zoneId).toOffsetDateTime(), to.atZone(zoneId).toOffsetDateTime()));
+        }
+        return Optional.empty();
+    }
+}
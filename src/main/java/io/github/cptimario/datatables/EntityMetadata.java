@@ -0,0 +1,195 @@
+package io.github.cptimario.datatables;
+
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * EntityMetadata class holds the entity information needed in generating the datatables queries.
+ * The metadata of an entity class is computed once and shared by all the datatables of that entity.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Getter
+final class EntityMetadata {
+    private static final ConcurrentMap<Class<?>, EntityMetadata> REGISTRY = new ConcurrentHashMap<>();
+
+    private final Class<?> entityClass;
+    private final String entityName;
+    private final String entityAlias;
+    private final String idAttribute;
+    private final Map<String, String> aliasMap;
+    private final List<String> associations;
+    private final Map<String, String> associationsByAlias;
+    private final Map<String, Class<?>> attributeTypes;
+    private final Set<String> nonNullableAttributes;
+    private final Pattern associationPathPattern;
+    private final Pattern associationAliasPattern;
+
+    /**
+     * Returns the metadata of the specified entity class
+     *
+     * @param entity the entity class
+     * @return the entity metadata
+     * @throws IllegalArgumentException if the specified class is not an entity
+     */
+    static EntityMetadata of(Class<?> entity) {
+        EntityMetadata entityMetadata = REGISTRY.get(entity);
+        if (Objects.isNull(entityMetadata)) {
+            if (!entity.isAnnotationPresent(Entity.class))
+                throw new IllegalArgumentException(entity.getName() + " is not a valid entity.");
+            entityMetadata = REGISTRY.computeIfAbsent(entity, EntityMetadata::new);
+        }
+        return entityMetadata;
+    }
+
+    private EntityMetadata(Class<?> entity) {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        List<String> associationList = new ArrayList<>();
+        Map<String, Class<?>> types = new LinkedHashMap<>();
+        Set<String> nonNullables = new HashSet<>();
+        String id = null;
+        this.entityClass = entity;
+        this.entityName = entity.getSimpleName();
+        this.entityAlias = getCamelCase(entityName);
+        aliases.put(entityName, entityAlias);
+        for (Field field : getPersistentFields(entity)) {
+            types.putIfAbsent(field.getName(), field.getType());
+            if (isNonNullable(field)) {
+                nonNullables.add(field.getName());
+            }
+            if (Objects.isNull(id) && (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class))) {
+                id = field.getName();
+            }
+            if (isToOneAssociation(field) && !aliases.containsKey(field.getName())) {
+                aliases.put(field.getName(), getAliasPrefix(field.getName()) + "_" + aliases.size());
+                associationList.add(field.getName());
+            }
+        }
+        this.idAttribute = id;
+        this.aliasMap = Collections.unmodifiableMap(aliases);
+        this.associations = Collections.unmodifiableList(associationList);
+        this.associationsByAlias = new HashMap<>();
+        for (String association : associationList) {
+            associationsByAlias.put(aliases.get(association), association);
+        }
+        this.attributeTypes = Collections.unmodifiableMap(types);
+        this.nonNullableAttributes = Collections.unmodifiableSet(nonNullables);
+        this.associationPathPattern = Pattern.compile("(?<![\\w.])" + Pattern.quote(entityAlias) + "\\.(?<field>\\w+)(?=(?:\\.\\w+)+)");
+        this.associationAliasPattern = Pattern.compile("(?<![\\w.])(?<alias>\\w+)\\.\\w+");
+    }
+
+    /**
+     * Returns the associations referenced by the specified clause,
+     * either through an association path of the entity alias or through the alias of the association.
+     *
+     * @param clause the query clause
+     * @return the referenced associations
+     */
+    Set<String> getReferencedAssociations(String clause) {
+        Set<String> referencedAssociations = new HashSet<>();
+        Matcher associationPath = associationPathPattern.matcher(clause);
+        while (associationPath.find()) {
+            String association = associationPath.group("field");
+            if (associations.contains(association)) {
+                referencedAssociations.add(association);
+            }
+        }
+        Matcher associationAlias = associationAliasPattern.matcher(clause);
+        while (associationAlias.find()) {
+            String association = associationsByAlias.get(associationAlias.group("alias"));
+            if (Objects.nonNull(association)) {
+                referencedAssociations.add(association);
+            }
+        }
+        return referencedAssociations;
+    }
+
+    /**
+     * Returns the alias of the specified association, or the entity alias for the entity name.
+     *
+     * @param name the entity name or the association field name
+     * @return the alias, or {@code null} if not registered
+     */
+    String getAlias(String name) {
+        return aliasMap.get(name);
+    }
+
+    /**
+     * Returns the java type of the specified attribute of the entity.
+     *
+     * @param attribute the attribute name
+     * @return the attribute type, or {@code null} if the attribute does not exist
+     */
+    Class<?> getAttributeType(String attribute) {
+        return attributeTypes.get(attribute);
+    }
+
+    /**
+     * Returns the java type of the specified attribute path, following the to-one associations of the entity.
+     *
+     * @param attributePath the attribute path, such as {@code association.attribute}
+     * @return the attribute type, or {@code null} if the attribute path does not exist
+     */
+    Class<?> getAttributePathType(String attributePath) {
+        EntityMetadata entityMetadata = this;
+        String[] attributes = attributePath.split("\\.");
+        for (int index = 0; index < attributes.length - 1; index++) {
+            Class<?> type = entityMetadata.getAttributeType(attributes[index]);
+            if (Objects.isNull(type) || !type.isAnnotationPresent(Entity.class)) {
+                return null;
+            }
+            entityMetadata = of(type);
+        }
+        return entityMetadata.getAttributeType(attributes[attributes.length - 1]);
+    }
+
+    private static List<Field> getPersistentFields(Class<?> entity) {
+        List<Field> fieldList = new ArrayList<>();
+        Class<?> type = entity;
+        while (Objects.nonNull(type) && (type == entity || isMappedType(type))) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Transient.class)) {
+                    fieldList.add(field);
+                }
+            }
+            type = type.getSuperclass();
+        }
+        return fieldList;
+    }
+
+    private static boolean isMappedType(Class<?> type) {
+        return type.isAnnotationPresent(MappedSuperclass.class) || type.isAnnotationPresent(Entity.class);
+    }
+
+    private static boolean isNonNullable(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        Basic basic = field.getAnnotation(Basic.class);
+        return field.getType().isPrimitive() || field.isAnnotationPresent(Id.class)
+                || (Objects.nonNull(column) && !column.nullable())
+                || (Objects.nonNull(basic) && !basic.optional());
+    }
+
+    private static boolean isToOneAssociation(Field field) {
+        return field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class);
+    }
+
+    private static String getCamelCase(String text) {
+        if (Objects.nonNull(text) && !"".equals(text.trim()))
+            return Character.toLowerCase(text.charAt(0)) + text.substring(1);
+        return "";
+    }
+
+    private static String getAliasPrefix(String field) {
+        String prefix = field.length() > 5 ? field.substring(0, 5) : field;
+        return getCamelCase(prefix);
+    }
+}
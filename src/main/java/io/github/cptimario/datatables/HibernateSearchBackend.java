@@ -0,0 +1,110 @@
+package io.github.cptimario.datatables;
+
+import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.util.common.SearchException;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * HibernateSearchBackend class resolves the global search value against the Hibernate Search index of the entity.
+ * Every search term is matched as a prefix of the words in the indexed text fields.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class HibernateSearchBackend implements SearchBackend {
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern OPERATOR_PATTERN = Pattern.compile("([+|\\-\"*()~\\\\])");
+
+    private final int maximumResults;
+
+    /**
+     * Creates a backend which resolves at most the specified number of identifiers
+     *
+     * @param maximumResults the maximum number of identifiers
+     * @throws IllegalArgumentException if the maximum number of identifiers is not positive
+     */
+    public HibernateSearchBackend(int maximumResults) {
+        if (maximumResults <= 0 || maximumResults == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("'" + maximumResults + "' not a valid maximum results.");
+        this.maximumResults = maximumResults;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The search is not resolved by the index if the entity is not indexed, if any of the fields is not an indexed text field,
+     * or if more entities than the maximum results match the search value.
+     */
+    @Override
+    public Optional<List<?>> search(EntityManager entityManager, Class<?> entity, List<String> fields, String searchValue) {
+        IndexDescriptor indexDescriptor = getIndexDescriptor(entityManager, entity);
+        if (Objects.isNull(indexDescriptor) || !fields.stream().allMatch(field -> isTextField(indexDescriptor, field))) {
+            return Optional.empty();
+        }
+        List<EntityReference> hits = Search.session(entityManager).search(entity)
+                .selectEntityReference()
+                .where(predicate -> predicate.simpleQueryString()
+                        .fields(fields.toArray(new String[0]))
+                        .matching(getPrefixQuery(searchValue))
+                        .defaultOperator(BooleanOperator.AND))
+                .fetchHits(maximumResults + 1);
+        if (hits.size() > maximumResults) {
+            return Optional.empty();
+        }
+        List<Object> ids = new ArrayList<>();
+        for (EntityReference hit : hits) {
+            ids.add(hit.id());
+        }
+        return Optional.of(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Only the indexed text fields of the entity are searchable.
+     */
+    @Override
+    public List<String> getSearchableFields(EntityManager entityManager, Class<?> entity, List<String> fields) {
+        IndexDescriptor indexDescriptor = getIndexDescriptor(entityManager, entity);
+        if (Objects.isNull(indexDescriptor)) {
+            return List.of();
+        }
+        return fields.stream().filter(field -> isTextField(indexDescriptor, field)).collect(Collectors.toList());
+    }
+
+    private IndexDescriptor getIndexDescriptor(EntityManager entityManager, Class<?> entity) {
+        try {
+            return Search.mapping(entityManager.getEntityManagerFactory()).indexedEntity(entity).indexManager().descriptor();
+        } catch (SearchException exception) {
+            return null;
+        }
+    }
+
+    private boolean isTextField(IndexDescriptor indexDescriptor, String field) {
+        Optional<IndexFieldDescriptor> fieldDescriptor = indexDescriptor.field(field);
+        return fieldDescriptor.isPresent() && fieldDescriptor.get().isValueField()
+                && String.class.equals(fieldDescriptor.get().toValueField().type().valueClass())
+                && fieldDescriptor.get().toValueField().type().searchable();
+    }
+
+    static String getPrefixQuery(String searchValue) {
+        List<String> terms = new ArrayList<>();
+        for (String term : WHITESPACE_PATTERN.split(searchValue.trim())) {
+            if (!"".equals(term)) {
+                terms.add(OPERATOR_PATTERN.matcher(term).replaceAll("\\\\$1") + "*");
+            }
+        }
+        return String.join(" ", terms);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.cptimario.datatables;
+
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * KeysetPageCache class remembers the sort keys of the first and last rows of the recently served pages.
+ * These are used by the keyset pagination to seek the requested page from a nearby row instead of skipping the rows before it.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class KeysetPageCache {
+    private final int maximumSize;
+    private final LinkedHashMap<Key, NavigableMap<Integer, List<Object>>> rowMap;
+    private int size;
+
+    /**
+     * Creates a keyset page cache which holds the sort keys of up to the specified number of rows
+     *
+     * @param maximumSize the maximum number of rows
+     * @throws IllegalArgumentException if the maximum size is less than 1
+     */
+    public KeysetPageCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("'" + maximumSize + "' not a valid cache size.");
+        }
+        this.maximumSize = maximumSize;
+        this.rowMap = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the sort keys of the nearest remembered row at or before the specified row index.
+     *
+     * @param query      the result list query
+     * @param parameters the parameter values bound to the query
+     * @param index      the row index
+     * @return the row index and its sort keys, or {@code null} if no such row is remembered
+     */
+    Map.Entry<Integer, List<Object>> floor(String query, Map<String, Object> parameters, int index) {
+        synchronized (rowMap) {
+            NavigableMap<Integer, List<Object>> rows = rowMap.get(new Key(query, parameters));
+            return Objects.isNull(rows) ? null : rows.floorEntry(index);
+        }
+    }
+
+    /**
+     * Returns the sort keys of the nearest remembered row at or after the specified row index.
+     *
+     * @param query      the result list query
+     * @param parameters the parameter values bound to the query
+     * @param index      the row index
+     * @return the row index and its sort keys, or {@code null} if no such row is remembered
+     */
+    Map.Entry<Integer, List<Object>> ceiling(String query, Map<String, Object> parameters, int index) {
+        synchronized (rowMap) {
+            NavigableMap<Integer, List<Object>> rows = rowMap.get(new Key(query, parameters));
+            return Objects.isNull(rows) ? null : rows.ceilingEntry(index);
+        }
+    }
+
+    /**
+     * Remembers the sort keys of the row at the specified row index.
+     * The rows of the least recently used queries are removed first when the cache is full,
+     * then the rows of this query farthest from the specified row index.
+     *
+     * @param query      the result list query
+     * @param parameters the parameter values bound to the query
+     * @param index      the row index
+     * @param sortKeys   the sort keys
+     */
+    void put(String query, Map<String, Object> parameters, int index, List<Object> sortKeys) {
+        synchronized (rowMap) {
+            NavigableMap<Integer, List<Object>> rows = rowMap.computeIfAbsent(new Key(query, parameters), key -> new TreeMap<>());
+            if (Objects.isNull(rows.put(index, sortKeys))) {
+                size++;
+            }
+            while (size > maximumSize) {
+                Iterator<NavigableMap<Integer, List<Object>>> iterator = rowMap.values().iterator();
+                NavigableMap<Integer, List<Object>> eldestRows = iterator.next();
+                if (eldestRows == rows) {
+                    rows.remove(index - rows.firstKey() >= rows.lastKey() - index ? rows.firstKey() : rows.lastKey());
+                    size--;
+                } else {
+                    size -= eldestRows.size();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of remembered rows
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        synchronized (rowMap) {
+            return size;
+        }
+    }
+
+    /**
+     * Removes all the remembered rows
+     */
+    public void clear() {
+        synchronized (rowMap) {
+            rowMap.clear();
+            size = 0;
+        }
+    }
+
+    @Value
+    private static class Key {
+        String query;
+        Map<String, Object> parameters;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.cptimario.datatables;
+
+import io.micrometer.core.instrument.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MicrometerDataTablesMetrics class records the datatables metrics to a Micrometer meter registry.
+ * The following meters are tagged by the simple name of the entity class:
+ * <ul>
+ *     <li>{@code datatables.query} timer of each phase, also tagged by the phase</li>
+ *     <li>{@code datatables.responses} counter of the responses</li>
+ *     <li>{@code datatables.page.length} distribution summary of the requested page lengths, except the {@code -1} length of all the records</li>
+ *     <li>{@code datatables.rows} distribution summary of the returned rows</li>
+ *     <li>{@code datatables.search.length} distribution summary of the global search value lengths</li>
+ * </ul>
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class MicrometerDataTablesMetrics implements DataTablesMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, EntityMeters> entityMeters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of micrometer datatables metrics recording to the specified meter registry
+     *
+     * @param meterRegistry the meter registry
+     */
+    public MicrometerDataTablesMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Returns the metrics recording to the global registry of Micrometer,
+     * where Spring Boot adds the meter registries of the application by default.
+     *
+     * @return the metrics of the global registry
+     */
+    static DataTablesMetrics ofGlobalRegistry() {
+        return new MicrometerDataTablesMetrics(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordPhase(Class<?> entity, Phase phase, long durationNanos) {
+        getEntityMeters(entity).phaseTimers.get(phase).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordResponse(Class<?> entity, int pageLength, int rowCount, int searchLength) {
+        EntityMeters meters = getEntityMeters(entity);
+        meters.responses.increment();
+        if (pageLength >= 0) {
+            meters.pageLength.record(pageLength);
+        }
+        meters.rows.record(rowCount);
+        meters.searchLength.record(searchLength);
+    }
+
+    private EntityMeters getEntityMeters(Class<?> entity) {
+        return entityMeters.computeIfAbsent(entity, key -> new EntityMeters(meterRegistry, key.getSimpleName()));
+    }
+
+    private static final class EntityMeters {
+        private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+        private final Counter responses;
+        private final DistributionSummary pageLength;
+        private final DistributionSummary rows;
+        private final DistributionSummary searchLength;
+
+        private EntityMeters(MeterRegistry meterRegistry, String entity) {
+            for (Phase phase : Phase.values()) {
+                phaseTimers.put(phase, Timer.builder("datatables.query")
+                        .description("Duration of the datatables query phases")
+                        .tag("entity", entity)
+                        .tag("phase", phase.getTagValue())
+                        .register(meterRegistry));
+            }
+            this.responses = Counter.builder("datatables.responses")
+                    .description("Number of datatables responses")
+                    .tag("entity", entity)
+                    .register(meterRegistry);
+            this.pageLength = DistributionSummary.builder("datatables.page.length")
+                    .description("Requested page length")
+                    .tag("entity", entity)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("datatables.rows")
+                    .description("Number of returned rows")
+                    .baseUnit("rows")
+                    .tag("entity", entity)
+                    .register(meterRegistry);
+            this.searchLength = DistributionSummary.builder("datatables.search.length")
+                    .description("Length of the global search value")
+                    .baseUnit("characters")
+                    .tag("entity", entity)
+                    .register(meterRegistry);
+        }
+    }
+}
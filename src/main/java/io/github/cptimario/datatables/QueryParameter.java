@@ -86,10 +86,10 @@ public class QueryParameter extends HashMap<String, Object> {
     public QueryParameter clone() {
         QueryParameter clone = (QueryParameter) super.clone();
         clone.setSelectClause(selectClause);
-        clone.setWhereConditions(whereConditions);
-        clone.setGroupByFields(groupByFields);
-        clone.setHavingConditions(havingConditions);
-        clone.setOrderConditions(orderConditions);
+        clone.setWhereConditions(new LinkedHashSet<>(whereConditions));
+        clone.setGroupByFields(new LinkedHashSet<>(groupByFields));
+        clone.setHavingConditions(new LinkedHashSet<>(havingConditions));
+        clone.setOrderConditions(new LinkedHashSet<>(orderConditions));
         return clone;
     }
 }
@@ -0,0 +1,49 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.MatchStrategy;
+import io.github.cptimario.datatables.components.Order;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * QueryShape class is the normalized key of a generated query.
+ * Requests with equal query shapes produce the same query, differing only in the bound parameter values.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Value
+class QueryShape {
+    Class<?> entity;
+    Class<?> databaseDialect;
+    DataTables.QueryType queryType;
+    int parameterOffset;
+    String selectClause;
+    List<String> whereConditions;
+    List<String> groupByFields;
+    List<String> havingConditions;
+    List<String> orderConditions;
+    String indexedSearchCondition;
+    List<ColumnShape> columns;
+    List<Order> orders;
+
+    /**
+     * ColumnShape class is the part of a datatables column which affects the generated query.
+     */
+    @Value
+    static class ColumnShape {
+        String data;
+        String format;
+        boolean searchable;
+        boolean orderable;
+        boolean searched;
+        boolean indexedSearch;
+        boolean matchable;
+        MatchStrategy matchStrategy;
+        boolean caseInsensitiveCollation;
+        boolean regex;
+        boolean regexPrefix;
+        boolean dateRange;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.cptimario.datatables;
+
+import lombok.Getter;
+
+import javax.persistence.Query;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * QueryTemplate class holds a generated query together with the plan for binding its parameters.
+ * Templates are immutable and are shared by all the requests with the same query shape.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Getter
+final class QueryTemplate {
+    private static final Pattern NAMED_PARAMETER_PATTERN = Pattern.compile("(?<!:):(?<name>[A-Za-z_]\\w*)");
+
+    private final String query;
+    private final List<SearchBinding> searchBindings;
+    private final Set<String> parameterNames;
+
+    QueryTemplate(String query, List<SearchBinding> searchBindings) {
+        Set<String> names = new LinkedHashSet<>();
+        Matcher matcher = NAMED_PARAMETER_PATTERN.matcher(query);
+        while (matcher.find()) {
+            names.add(matcher.group("name"));
+        }
+        this.query = query;
+        this.searchBindings = List.copyOf(searchBindings);
+        this.parameterNames = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Puts the values of the search parameters of this template to the specified query parameters.
+     *
+     * @param queryParameter the query parameters
+     * @param searchStrings  the search string of each datatables column
+     */
+    void bind(QueryParameter queryParameter, List<String> searchStrings) {
+        for (SearchBinding searchBinding : searchBindings) {
+            String searchString = searchStrings.get(searchBinding.getColumnIndex());
+            queryParameter.put(searchBinding.getName(), searchBinding.getValueFunction().apply(searchString));
+        }
+    }
+
+    /**
+     * Sets the parameters used by this template to the specified query.
+     * Query parameters which are not referenced by the query are ignored.
+     *
+     * @param query          the query
+     * @param queryParameter the query parameters
+     */
+    void setParameters(Query query, QueryParameter queryParameter) {
+        for (String name : parameterNames) {
+            if (queryParameter.containsKey(name)) {
+                query.setParameter(name, queryParameter.get(name));
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the parameters used by this template.
+     *
+     * @param queryParameter the query parameters
+     * @return the parameter values keyed by the parameter name
+     */
+    Map<String, Object> getParameterValues(QueryParameter queryParameter) {
+        Map<String, Object> parameterValues = new LinkedHashMap<>();
+        for (String name : parameterNames) {
+            if (queryParameter.containsKey(name)) {
+                parameterValues.put(name, queryParameter.get(name));
+            }
+        }
+        return parameterValues;
+    }
+
+    /**
+     * SearchBinding class describes how the value of a search parameter is derived from a column's search string.
+     */
+    @Getter
+    static final class SearchBinding {
+        private final String name;
+        private final int columnIndex;
+        private final Function<String, Object> valueFunction;
+
+        SearchBinding(String name, int columnIndex, Function<String, Object> valueFunction) {
+            this.name = name;
+            this.columnIndex = columnIndex;
+            this.valueFunction = valueFunction;
+        }
+    }
+}
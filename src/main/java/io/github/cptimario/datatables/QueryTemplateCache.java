@@ -0,0 +1,78 @@
+package io.github.cptimario.datatables;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * QueryTemplateCache class is a bounded, thread-safe cache of query templates keyed by their query shape.
+ * The least recently used templates are evicted once the maximum size is reached.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+final class QueryTemplateCache {
+    private final Map<Object, QueryTemplate> templateMap;
+
+    /**
+     * Creates a query template cache which holds up to the specified number of templates
+     *
+     * @param maximumSize the maximum number of templates
+     */
+    QueryTemplateCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("'" + maximumSize + "' not a valid cache size.");
+        }
+        this.templateMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, QueryTemplate> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the template of the specified query shape, building it if it is not yet cached.
+     *
+     * @param queryShape      the query shape
+     * @param templateBuilder the builder of the template
+     * @return the query template
+     */
+    QueryTemplate get(Object queryShape, Supplier<QueryTemplate> templateBuilder) {
+        QueryTemplate queryTemplate;
+        synchronized (templateMap) {
+            queryTemplate = templateMap.get(queryShape);
+        }
+        if (Objects.isNull(queryTemplate)) {
+            queryTemplate = templateBuilder.get();
+            synchronized (templateMap) {
+                QueryTemplate cached = templateMap.putIfAbsent(queryShape, queryTemplate);
+                if (Objects.nonNull(cached)) {
+                    queryTemplate = cached;
+                }
+            }
+        }
+        return queryTemplate;
+    }
+
+    /**
+     * Returns the number of cached templates
+     *
+     * @return the number of templates
+     */
+    int size() {
+        synchronized (templateMap) {
+            return templateMap.size();
+        }
+    }
+
+    /**
+     * Removes all the cached templates
+     */
+    void clear() {
+        synchronized (templateMap) {
+            templateMap.clear();
+        }
+    }
+}
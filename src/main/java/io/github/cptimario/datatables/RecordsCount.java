@@ -0,0 +1,28 @@
+package io.github.cptimario.datatables;
+
+import lombok.Value;
+
+/**
+ * RecordsCount class holds a record count of the datatables response together with how it was obtained.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Value
+class RecordsCount {
+    long count;
+    boolean estimated;
+    boolean capped;
+
+    static RecordsCount exact(long count) {
+        return new RecordsCount(count, false, false);
+    }
+
+    static RecordsCount estimated(long count) {
+        return new RecordsCount(count, true, false);
+    }
+
+    static RecordsCount capped(long count) {
+        return new RecordsCount(count, false, true);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.cptimario.datatables;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SearchBackend interface resolves the global search value of the datatables to the identifiers of the matching entities.
+ * The datatables queries are then restricted to those identifiers instead of matching every searchable column with like conditions.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ * @see HibernateSearchBackend
+ */
+@FunctionalInterface
+public interface SearchBackend {
+    /**
+     * Returns the identifiers of the entities whose fields match the search value.
+     *
+     * @param entityManager the entity manager
+     * @param entity        the entity class
+     * @param fields        the fields of the searchable columns
+     * @param searchValue   the global search value
+     * @return the identifiers of the matching entities, or an empty value if the search cannot be resolved by this backend
+     */
+    Optional<List<?>> search(EntityManager entityManager, Class<?> entity, List<String> fields, String searchValue);
+
+    /**
+     * Returns the fields which can be searched by this backend.
+     * Columns with any other field are matched with like conditions, or'ed with the identifiers resolved for the other columns.
+     *
+     * @param entityManager the entity manager
+     * @param entity        the entity class
+     * @param fields        the fields of the searchable columns
+     * @return the searchable fields, by default all the specified fields
+     */
+    default List<String> getSearchableFields(EntityManager entityManager, Class<?> entity, List<String> fields) {
+        return fields;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.MatchStrategy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * SearchValueConverter class converts the search text to the typed value of a non-text attribute.
+ * A search text which cannot be converted cannot match any value of the attribute.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+final class SearchValueConverter {
+    private static final Map<Class<?>, Function<String, Object>> PARSERS = Map.ofEntries(
+            Map.entry(Integer.class, Integer::valueOf), Map.entry(int.class, Integer::valueOf),
+            Map.entry(Long.class, Long::valueOf), Map.entry(long.class, Long::valueOf),
+            Map.entry(Short.class, Short::valueOf), Map.entry(short.class, Short::valueOf),
+            Map.entry(Byte.class, Byte::valueOf), Map.entry(byte.class, Byte::valueOf),
+            Map.entry(Double.class, Double::valueOf), Map.entry(double.class, Double::valueOf),
+            Map.entry(Float.class, Float::valueOf), Map.entry(float.class, Float::valueOf),
+            Map.entry(BigDecimal.class, BigDecimal::new), Map.entry(BigInteger.class, BigInteger::new),
+            Map.entry(Boolean.class, SearchValueConverter::parseBoolean), Map.entry(boolean.class, SearchValueConverter::parseBoolean),
+            Map.entry(UUID.class, UUID::fromString));
+
+    private SearchValueConverter() {
+    }
+
+    /**
+     * Checks whether the attribute type is searched by its typed value instead of a text match.
+     *
+     * @param type the attribute type
+     * @return {@code true} if the attribute type is numeric, boolean, {@link UUID} or an enum, otherwise {@code false}.
+     */
+    static boolean isTyped(Class<?> type) {
+        return PARSERS.containsKey(type) || type.isEnum();
+    }
+
+    /**
+     * Returns the typed value of the search text.
+     * Enum types are converted to the list of constants whose name matches the search text with the match strategy.
+     *
+     * @param type          the attribute type
+     * @param searchText    the search text
+     * @param matchStrategy the match strategy of enum names
+     * @return the typed value, or an empty value if the search text cannot match any value of the type
+     */
+    static Optional<Object> convert(Class<?> type, String searchText, MatchStrategy matchStrategy) {
+        String text = searchText.trim();
+        if (type.isEnum()) {
+            List<Object> constants = getMatchingConstants(type, text.toUpperCase(Locale.ROOT), matchStrategy);
+            return constants.isEmpty() ? Optional.empty() : Optional.of(constants);
+        }
+        try {
+            return Optional.ofNullable(PARSERS.get(type).apply(text));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<Object> getMatchingConstants(Class<?> type, String text, MatchStrategy matchStrategy) {
+        List<Object> constants = new ArrayList<>();
+        for (Object constant : type.getEnumConstants()) {
+            String name = ((Enum<?>) constant).name().toUpperCase(Locale.ROOT);
+            boolean isMatch;
+            switch (matchStrategy) {
+                case PREFIX:
+                    isMatch = name.startsWith(text);
+                    break;
+                case EXACT:
+                    isMatch = name.equals(text);
+                    break;
+                default:
+                    isMatch = name.contains(text);
+            }
+            if (isMatch) {
+                constants.add(constant);
+            }
+        }
+        return constants;
+    }
+
+    private static Boolean parseBoolean(String text) {
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.valueOf(text);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.cptimario.datatables;
+
+import lombok.AccessLevel;
+import lombok.Value;
+import lombok.With;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * SlowQuery class holds a datatables query which exceeded the threshold of the slow query log.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ * @see SlowQueryLog
+ */
+@Value
+public class SlowQuery {
+    Instant timestamp;
+    String entityName;
+    String queryType;
+    Duration duration;
+    String query;
+    @With(AccessLevel.PACKAGE)
+    String sql;
+    Map<String, Object> parameters;
+    @With(AccessLevel.PACKAGE)
+    String explainPlan;
+    @With(AccessLevel.PACKAGE)
+    String translationError;
+    @With(AccessLevel.PACKAGE)
+    String explainError;
+}
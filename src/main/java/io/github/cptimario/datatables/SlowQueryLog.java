@@ -0,0 +1,352 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.dialect.DatabaseDialect;
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.query.spi.EntityGraphQueryHint;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.spi.NamedParameterInformation;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.type.Type;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SlowQueryLog class holds the most recent datatables queries which took longer than a threshold to execute,
+ * together with their SQL, their parameter values and, optionally, the execution plan of the database.
+ * A slow query log can be shared by multiple datatables, and is safe for concurrent use.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class SlowQueryLog {
+    static final String REDACTED_VALUE = "[redacted]";
+
+    private final Duration threshold;
+    private final int capacity;
+    private final LinkedList<SlowQuery> slowQueries;
+    private volatile boolean parameterRedacted;
+    private volatile boolean explainEnabled;
+    private volatile boolean explainAnalyzed;
+    private volatile Executor explainExecutor = ForkJoinPool.commonPool();
+
+    /**
+     * Creates a slow query log which keeps up to the specified number of the most recent slow queries
+     *
+     * @param threshold the duration above which a query is logged
+     * @param capacity  the maximum number of logged queries
+     * @throws IllegalArgumentException if the threshold is negative or the capacity is not positive
+     */
+    public SlowQueryLog(Duration threshold, int capacity) {
+        if (threshold.isNegative())
+            throw new IllegalArgumentException("'" + threshold + "' not a valid slow query threshold.");
+        if (capacity <= 0)
+            throw new IllegalArgumentException("'" + capacity + "' not a valid slow query log capacity.");
+        this.threshold = threshold;
+        this.capacity = capacity;
+        this.slowQueries = new LinkedList<>();
+    }
+
+    /**
+     * Sets whether the parameter values of the logged queries are replaced by {@value REDACTED_VALUE}.
+     * By default, the parameter values are logged.
+     *
+     * @param parameterRedacted {@code true} to redact the parameter values, otherwise {@code false}
+     * @apiNote Some databases show the parameter values in the execution plan.
+     * Disable the execution plans as well if the values must not be logged.
+     */
+    public void setParameterRedacted(boolean parameterRedacted) {
+        this.parameterRedacted = parameterRedacted;
+    }
+
+    /**
+     * Sets whether the execution plan of the logged queries is explained by the database.
+     * The plan is explained by the explain executor on a connection of its own,
+     * and is added to the logged query once it is explained.
+     * By default, the execution plans are not explained.
+     *
+     * @param explainEnabled {@code true} to explain the execution plans when the database dialect is known, otherwise {@code false}
+     */
+    public void setExplainEnabled(boolean explainEnabled) {
+        this.explainEnabled = explainEnabled;
+    }
+
+    /**
+     * Sets whether the execution plans are analyzed by executing the queries again, such as with {@code EXPLAIN ANALYZE}.
+     * By default, the queries are only planned with {@code EXPLAIN}.
+     *
+     * @param explainAnalyzed {@code true} to analyze the execution plans, otherwise {@code false}
+     * @apiNote Analyzing executes each slow query a second time, without its paging, which adds to the load of the database.
+     */
+    public void setExplainAnalyzed(boolean explainAnalyzed) {
+        this.explainAnalyzed = explainAnalyzed;
+    }
+
+    /**
+     * Sets the executor which translates the logged queries to SQL and explains their execution plans.
+     * By default, the queries are translated and explained by the common fork join pool.
+     *
+     * @param explainExecutor the explain executor
+     */
+    public void setExplainExecutor(Executor explainExecutor) {
+        this.explainExecutor = Objects.requireNonNull(explainExecutor);
+    }
+
+    /**
+     * Returns the logged queries, the most recent first
+     *
+     * @return the slow queries
+     */
+    public synchronized List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> slowQueryList = new ArrayList<>(slowQueries);
+        Collections.reverse(slowQueryList);
+        return slowQueryList;
+    }
+
+    /**
+     * Removes all the logged queries
+     */
+    public synchronized void clear() {
+        slowQueries.clear();
+    }
+
+    /**
+     * Returns the duration above which a query is logged
+     *
+     * @return the threshold
+     */
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    boolean isSlow(long durationNanos) {
+        return durationNanos > threshold.toNanos();
+    }
+
+    /**
+     * Logs the specified query, then translates it to SQL and explains it in the background when the explain is enabled.
+     * Failures of the translation and of the explain are logged as the translation error and the explain error of the query.
+     *
+     * @param entityManager   the entity manager which executed the query
+     * @param databaseDialect the database dialect, or {@code null} to skip the execution plan
+     * @param entity          the entity class
+     * @param queryType       the query type
+     * @param query           the JPQL query
+     * @param parameterValues the parameter values of the query
+     * @param entityGraph     the fetch graph applied to the query, or {@code null} if none
+     * @param durationNanos   the execution duration in nanoseconds
+     */
+    void log(EntityManager entityManager, DatabaseDialect databaseDialect, Class<?> entity, String queryType,
+             String query, Map<String, Object> parameterValues, EntityGraph<?> entityGraph, long durationNanos) {
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        Map<String, Filter> enabledFilters = new HashMap<>(entityManager.unwrap(SharedSessionContractImplementor.class).getLoadQueryInfluencers().getEnabledFilters());
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameterValues.forEach((name, value) -> parameters.put(name, parameterRedacted ? REDACTED_VALUE : value));
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), entity.getSimpleName(), queryType, Duration.ofNanos(durationNanos),
+                query, null, Collections.unmodifiableMap(parameters), null, null, null);
+        add(slowQuery);
+        DatabaseDialect explainDialect = explainEnabled ? databaseDialect : null;
+        boolean analyze = explainAnalyzed;
+        try {
+            explainExecutor.execute(() -> replace(slowQuery,
+                    translate(entityManagerFactory, explainDialect, analyze, parameterValues, enabledFilters, entityGraph, slowQuery)));
+        } catch (RejectedExecutionException exception) {
+            replace(slowQuery, slowQuery.withTranslationError(exception.getMessage()));
+        }
+    }
+
+    /**
+     * Translates the logged query to SQL and explains it when the database dialect is specified.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param databaseDialect      the database dialect, or {@code null} to skip the execution plan
+     * @param analyze              whether the execution plan is analyzed
+     * @param parameterValues      the parameter values of the query
+     * @param enabledFilters       the filters enabled on the session which executed the query
+     * @param entityGraph          the fetch graph applied to the query, or {@code null} if none
+     * @param slowQuery            the logged query
+     * @return the logged query with its SQL and execution plan, or with the translation or explain error
+     */
+    private static SlowQuery translate(EntityManagerFactory entityManagerFactory, DatabaseDialect databaseDialect, boolean analyze,
+                                       Map<String, Object> parameterValues, Map<String, Filter> enabledFilters, EntityGraph<?> entityGraph,
+                                       SlowQuery slowQuery) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Map<String, Object> expandedValues = new LinkedHashMap<>();
+        QueryTranslator queryTranslator;
+        try {
+            String expandedQuery = getExpandedQuery(slowQuery.getQuery(), parameterValues, sessionFactory.getJdbcServices().getDialect(),
+                    sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled(), expandedValues);
+            queryTranslator = getQueryTranslator(sessionFactory, expandedQuery, enabledFilters, entityGraph);
+        } catch (RuntimeException exception) {
+            return slowQuery.withTranslationError(exception.getMessage());
+        }
+        SlowQuery translatedQuery = slowQuery.withSql(queryTranslator.getSQLString());
+        if (Objects.isNull(databaseDialect)) {
+            return translatedQuery;
+        }
+        try {
+            String explainStatement = databaseDialect.getExplainStatement(queryTranslator.getSQLString(), analyze);
+            return translatedQuery.withExplainPlan(getExplainPlan(entityManagerFactory, explainStatement, queryTranslator, expandedValues));
+        } catch (RuntimeException exception) {
+            return translatedQuery.withExplainError(exception.getMessage());
+        }
+    }
+
+    synchronized void add(SlowQuery slowQuery) {
+        if (slowQueries.size() == capacity) {
+            slowQueries.removeFirst();
+        }
+        slowQueries.addLast(slowQuery);
+    }
+
+    private synchronized void replace(SlowQuery slowQuery, SlowQuery replacement) {
+        ListIterator<SlowQuery> iterator = slowQueries.listIterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == slowQuery) {
+                iterator.set(replacement);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the query with each collection parameter expanded to one parameter per element, as Hibernate expands it before looking up its query plan.
+     * A single element enclosed in parentheses is not expanded, and the collections are padded the way Hibernate pads them when the padding is enabled.
+     *
+     * @param query           the query
+     * @param parameterValues the parameter values
+     * @param dialect         the Hibernate dialect
+     * @param paddingEnabled  whether {@code hibernate.query.in_clause_parameter_padding} is enabled
+     * @param expandedValues  the map where the values of the expanded parameters are put
+     * @return the expanded query
+     */
+    static String getExpandedQuery(String query, Map<String, Object> parameterValues, Dialect dialect, boolean paddingEnabled, Map<String, Object> expandedValues) {
+        String expandedQuery = query;
+        for (Map.Entry<String, Object> parameter : parameterValues.entrySet()) {
+            Matcher matcher = Pattern.compile("(?<before>\\(\\s*)?:" + Pattern.quote(parameter.getKey()) + "(?!\\w)").matcher(expandedQuery);
+            if (!(parameter.getValue() instanceof Collection) || !matcher.find()) {
+                expandedValues.put(parameter.getKey(), parameter.getValue());
+                continue;
+            }
+            Collection<?> values = (Collection<?>) parameter.getValue();
+            if (values.size() == 1 && Objects.nonNull(matcher.group("before")) && expandedQuery.substring(matcher.end()).trim().startsWith(")")) {
+                expandedValues.put(parameter.getKey(), values.iterator().next());
+                continue;
+            }
+            List<String> expandedParameters = new ArrayList<>();
+            Object value = null;
+            Iterator<?> iterator = values.iterator();
+            for (int index = 0; index < getExpandedSize(values.size(), dialect.getInExpressionCountLimit(), paddingEnabled); index++) {
+                value = iterator.hasNext() ? iterator.next() : value;
+                String name = parameter.getKey() + "_" + index;
+                expandedParameters.add(":" + name);
+                expandedValues.put(name, value);
+            }
+            String expansion = expandedParameters.isEmpty() && !dialect.supportsEmptyInList() ? "null" : String.join(", ", expandedParameters);
+            StringBuilder stringBuilder = new StringBuilder();
+            do {
+                String before = matcher.group("before");
+                matcher.appendReplacement(stringBuilder, Matcher.quoteReplacement(Objects.nonNull(before) ? before + expansion : "(" + expansion + ")"));
+            } while (matcher.find());
+            matcher.appendTail(stringBuilder);
+            expandedQuery = stringBuilder.toString();
+        }
+        return expandedQuery;
+    }
+
+    private static int getExpandedSize(int size, int inExpressionCountLimit, boolean paddingEnabled) {
+        if (!paddingEnabled || size <= 2) {
+            return size;
+        }
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        if (inExpressionCountLimit > 0 && paddedSize > inExpressionCountLimit) {
+            paddedSize = inExpressionCountLimit;
+        }
+        return Math.max(size, paddedSize);
+    }
+
+    /**
+     * Returns the translator of the query from the query plan cache of Hibernate.
+     * The query was executed with the same expansion just before, so its plan is normally cached already.
+     * Hibernate does not cache the plans of queries with a fetch graph, so these are translated again the same way Hibernate translated them.
+     *
+     * @param sessionFactory the session factory
+     * @param query          the expanded query
+     * @param enabledFilters the filters enabled on the session which executed the query
+     * @param entityGraph    the fetch graph applied to the query, or {@code null} if none
+     * @return the query translator
+     */
+    private static QueryTranslator getQueryTranslator(SessionFactoryImplementor sessionFactory, String query, Map<String, Filter> enabledFilters,
+                                                      EntityGraph<?> entityGraph) {
+        HQLQueryPlan queryPlan = Objects.isNull(entityGraph) ? sessionFactory.getQueryPlanCache().getHQLQueryPlan(query, false, enabledFilters)
+                : new HQLQueryPlan(query, false, enabledFilters, sessionFactory, new EntityGraphQueryHint(DataTables.FETCH_GRAPH_HINT, entityGraph));
+        return queryPlan.getTranslators()[0];
+    }
+
+    /**
+     * Explains the query on a connection of a new entity manager, outside the transaction of the query.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param explainStatement     the explain statement of the translated query
+     * @param queryTranslator      the query translator
+     * @param parameterValues      the values of the expanded parameters
+     * @return the execution plan
+     */
+    private static String getExplainPlan(EntityManagerFactory entityManagerFactory, String explainStatement, QueryTranslator queryTranslator, Map<String, Object> parameterValues) {
+        Map<String, NamedParameterInformation> parameterInformationMap = queryTranslator.getParameterTranslations().getNamedParameterInformationMap();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+            return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(explainStatement)) {
+                    for (Map.Entry<String, NamedParameterInformation> parameterInformation : parameterInformationMap.entrySet()) {
+                        Object value = parameterValues.get(parameterInformation.getKey());
+                        Type type = parameterInformation.getValue().getExpectedType();
+                        for (int sourceLocation : parameterInformation.getValue().getSourceLocations()) {
+                            if (Objects.nonNull(type)) {
+                                type.nullSafeSet(statement, value, sourceLocation + 1, session);
+                            } else {
+                                statement.setObject(sourceLocation + 1, value);
+                            }
+                        }
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return getResultText(resultSet);
+                    }
+                }
+            });
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static String getResultText(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        StringJoiner rows = new StringJoiner("\n");
+        while (resultSet.next()) {
+            StringJoiner columns = new StringJoiner("\t");
+            for (int index = 1; index <= metaData.getColumnCount(); index++) {
+                columns.add(String.valueOf(resultSet.getObject(index)));
+            }
+            rows.add(columns.toString());
+        }
+        return rows.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.dialect.DatabaseDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * TableStatisticsEstimator class estimates the total record count of an entity from the statistics the database keeps of its table.
+ * Tables estimated to have fewer rows than the minimum row count are counted exactly.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class TableStatisticsEstimator implements TotalCountEstimator {
+    private final DatabaseDialect databaseDialect;
+    private final long minimumRowCount;
+
+    /**
+     * Creates an estimator which uses the dialect of the database used by the entity manager
+     *
+     * @param minimumRowCount the minimum estimated row count for the estimate to be used
+     */
+    public TableStatisticsEstimator(long minimumRowCount) {
+        this(null, minimumRowCount);
+    }
+
+    /**
+     * Creates an estimator which uses the specified database dialect
+     *
+     * @param databaseDialect the database dialect
+     * @param minimumRowCount the minimum estimated row count for the estimate to be used
+     */
+    public TableStatisticsEstimator(DatabaseDialect databaseDialect, long minimumRowCount) {
+        this.databaseDialect = databaseDialect;
+        this.minimumRowCount = minimumRowCount;
+    }
+
+    @Override
+    public OptionalLong estimate(EntityManager entityManager, Class<?> entity) {
+        Optional<DatabaseDialect> dialect = Objects.nonNull(databaseDialect) ? Optional.of(databaseDialect) : DatabaseDialect.of(entityManager);
+        String tableName = getTableName(entityManager, entity);
+        if (dialect.isEmpty() || Objects.isNull(tableName)) {
+            return OptionalLong.empty();
+        }
+        OptionalLong estimate = dialect.get().getEstimatedRowCount(entityManager, tableName);
+        if (estimate.isPresent() && estimate.getAsLong() >= minimumRowCount) {
+            return estimate;
+        }
+        return OptionalLong.empty();
+    }
+
+    private String getTableName(EntityManager entityManager, Class<?> entity) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        EntityPersister entityPersister = sessionFactory.getMetamodel().entityPersister(entity);
+        if (entityPersister instanceof AbstractEntityPersister) {
+            String tableName = ((AbstractEntityPersister) entityPersister).getTableName();
+            return tableName.substring(tableName.lastIndexOf('.') + 1).replaceAll("[\"`\\[\\]]", "");
+        }
+        return null;
+    }
+}
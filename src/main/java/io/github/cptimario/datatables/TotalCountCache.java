@@ -0,0 +1,128 @@
+package io.github.cptimario.datatables;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * TotalCountCache class holds the total record counts of the datatables queries for a limited time.
+ * Counts are keyed by the entity, the total count query and its bound parameter values,
+ * and are invalidated when an entity of the same type is inserted or deleted.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ * @see TotalCountCacheInvalidator
+ */
+public class TotalCountCache {
+    private final long timeToLive;
+    private final int maximumSize;
+    private final ConcurrentMap<Key, Entry> entryMap;
+    private final ConcurrentMap<Class<?>, AtomicLong> generationMap;
+
+    /**
+     * Creates a total count cache with the specified time to live and maximum number of counts
+     *
+     * @param timeToLive  the time a count is kept after it is computed
+     * @param maximumSize the maximum number of counts
+     * @throws IllegalArgumentException if the time to live is not positive or if the maximum size is less than 1
+     */
+    public TotalCountCache(Duration timeToLive, int maximumSize) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("'" + timeToLive + "' not a valid time to live.");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("'" + maximumSize + "' not a valid cache size.");
+        }
+        this.timeToLive = timeToLive.toNanos();
+        this.maximumSize = maximumSize;
+        this.entryMap = new ConcurrentHashMap<>();
+        this.generationMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cached total count, computing and caching it if it is absent or expired.
+     * The computed count is not cached if the entity is invalidated while it is computed,
+     * and cached counts computed before an invalidation are never returned.
+     *
+     * @param entity        the entity class
+     * @param query         the total count query
+     * @param parameters    the parameter values bound to the query
+     * @param countFunction the function which computes the total count
+     * @return the total count
+     */
+    long get(Class<?> entity, String query, Map<String, Object> parameters, LongSupplier countFunction) {
+        Key key = new Key(entity, query, parameters);
+        AtomicLong generation = generationMap.computeIfAbsent(entity, type -> new AtomicLong());
+        long expectedGeneration = generation.get();
+        Entry entry = entryMap.get(key);
+        long now = System.nanoTime();
+        if (Objects.nonNull(entry) && entry.getGeneration() == expectedGeneration && now - entry.getCreated() < timeToLive) {
+            return entry.getCount();
+        }
+        long count = countFunction.getAsLong();
+        if (entryMap.size() >= maximumSize) {
+            removeExpired(now);
+        }
+        if (entryMap.size() < maximumSize && generation.get() == expectedGeneration) {
+            entryMap.put(key, new Entry(count, now, expectedGeneration));
+        }
+        return count;
+    }
+
+    /**
+     * Removes the cached total counts of the specified entity class and of its super classes.
+     * Counts of these classes which are being computed are not cached.
+     *
+     * @param entity the entity class
+     */
+    public void invalidate(Class<?> entity) {
+        for (Class<?> type = entity; Objects.nonNull(type); type = type.getSuperclass()) {
+            AtomicLong generation = generationMap.get(type);
+            if (Objects.nonNull(generation)) {
+                generation.incrementAndGet();
+            }
+        }
+        entryMap.keySet().removeIf(key -> key.getEntity().isAssignableFrom(entity));
+    }
+
+    /**
+     * Removes all the cached total counts
+     */
+    public void invalidateAll() {
+        generationMap.values().forEach(AtomicLong::incrementAndGet);
+        entryMap.clear();
+    }
+
+    /**
+     * Returns the number of cached total counts
+     *
+     * @return the number of total counts
+     */
+    public int size() {
+        return entryMap.size();
+    }
+
+    private void removeExpired(long now) {
+        entryMap.values().removeIf(entry -> now - entry.getCreated() >= timeToLive);
+    }
+
+    @Value
+    private static class Key {
+        Class<?> entity;
+        String query;
+        Map<String, Object> parameters;
+    }
+
+    @Value
+    private static class Entry {
+        long count;
+        long created;
+        long generation;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.cptimario.datatables;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * TotalCountCacheInvalidator class invalidates the cached total counts of an entity
+ * once an insert or a delete of that entity is committed.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class TotalCountCacheInvalidator implements PostCommitInsertEventListener, PostCommitDeleteEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private final transient TotalCountCache totalCountCache;
+
+    /**
+     * Creates an invalidator of the specified total count cache
+     *
+     * @param totalCountCache the total count cache
+     */
+    public TotalCountCacheInvalidator(TotalCountCache totalCountCache) {
+        this.totalCountCache = totalCountCache;
+    }
+
+    /**
+     * Registers an invalidator of the specified total count cache to the hibernate session factory of the entity manager factory.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @param totalCountCache      the total count cache
+     * @return the registered invalidator
+     * @implNote The insert and delete statements executed through bulk queries do not trigger the invalidation.
+     * These are only covered by the time to live of the cached counts.
+     */
+    public static TotalCountCacheInvalidator register(EntityManagerFactory entityManagerFactory, TotalCountCache totalCountCache) {
+        TotalCountCacheInvalidator invalidator = new TotalCountCacheInvalidator(totalCountCache);
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, invalidator);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, invalidator);
+        return invalidator;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        totalCountCache.invalidate(event.getEntity().getClass());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was changed, the cached counts are still valid.
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        totalCountCache.invalidate(event.getEntity().getClass());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was changed, the cached counts are still valid.
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return true;
+    }
+}
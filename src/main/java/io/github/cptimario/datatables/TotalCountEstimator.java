@@ -0,0 +1,24 @@
+package io.github.cptimario.datatables;
+
+import javax.persistence.EntityManager;
+import java.util.OptionalLong;
+
+/**
+ * TotalCountEstimator interface provides an estimate of the total record count of an entity,
+ * used in place of the exact count when no where conditions are applied.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ * @see TableStatisticsEstimator
+ */
+@FunctionalInterface
+public interface TotalCountEstimator {
+    /**
+     * Returns the estimated total record count of the specified entity.
+     *
+     * @param entityManager the entity manager
+     * @param entity        the entity class
+     * @return the estimated total count, or an empty value to use the exact count
+     */
+    OptionalLong estimate(EntityManager entityManager, Class<?> entity);
+}
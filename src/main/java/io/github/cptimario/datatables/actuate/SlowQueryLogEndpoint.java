@@ -0,0 +1,49 @@
+package io.github.cptimario.datatables.actuate;
+
+import io.github.cptimario.datatables.SlowQuery;
+import io.github.cptimario.datatables.SlowQueryLog;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SlowQueryLogEndpoint class exposes a slow query log as the {@code datatables} actuator endpoint.
+ * Reading the endpoint returns the logged queries, the most recent first, and deleting it clears the log.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Endpoint(id = "datatables")
+public class SlowQueryLogEndpoint {
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Creates an endpoint of the specified slow query log
+     *
+     * @param slowQueryLog the slow query log
+     */
+    public SlowQueryLogEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = Objects.requireNonNull(slowQueryLog);
+    }
+
+    /**
+     * Returns the logged slow queries
+     *
+     * @return the slow queries, the most recent first
+     */
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryLog.getSlowQueries();
+    }
+
+    /**
+     * Clears the logged slow queries
+     */
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -1,14 +1,15 @@
 package io.github.cptimario.datatables.components;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Column class handles the storage and manipulation of the datatables column parameters received from the client side
@@ -26,10 +27,22 @@ public class Column {
     @JsonIgnore
     private String format;
 
+    @JsonIgnore
+    private MatchStrategy matchStrategy = MatchStrategy.CONTAINS;
+
+    @JsonIgnore
+    private boolean caseInsensitiveCollation;
+
     @JsonIgnore
     @ToString.Exclude
     private List<Column> subColumnList;
 
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private transient ColumnDescriptor descriptor;
+
     /**
      * Creates an instance of datatables column with the specified data parameter
      *
@@ -55,6 +68,31 @@ public class Column {
         }
     }
 
+    /**
+     * Sets the data parameter of {@code this} column.
+     *
+     * @param data the data parameter
+     */
+    public void setData(String data) {
+        this.data = data;
+        this.descriptor = null;
+    }
+
+    /**
+     * Returns the parsed form of the data parameter of {@code this} column.
+     *
+     * @return the column descriptor
+     */
+    @JsonIgnore
+    public ColumnDescriptor getDescriptor() {
+        ColumnDescriptor columnDescriptor = descriptor;
+        if (Objects.isNull(columnDescriptor)) {
+            columnDescriptor = ColumnDescriptor.of(data);
+            descriptor = columnDescriptor;
+        }
+        return columnDescriptor;
+    }
+
     private void initializeSubColumnList() {
         subColumnList = new ArrayList<>();
         for (String fieldData : getFieldList()) {
@@ -82,8 +120,7 @@ public class Column {
      * @return {@code true} if a multi-field column, otherwise {@code false}.
      */
     public boolean isMultiField() {
-        List<String> fieldList = getFieldList();
-        return fieldList.size() > 1;
+        return getDescriptor().isMultiField();
     }
 
     /**
@@ -92,9 +129,7 @@ public class Column {
      * @return the delimiter if a multi-field column. Otherwise, an empty string.
      */
     public String getFieldDelimiter() {
-        String regex = "\\w+(?:\\.\\w+)*(?<delimiter>\\W+)(?:\\w+(?:\\.\\w+)*)+";
-        Matcher fieldDelimiter = getMatcher(regex, data);
-        return fieldDelimiter.matches() ? fieldDelimiter.group("delimiter") : "";
+        return getDescriptor().getFieldDelimiter();
     }
 
     /**
@@ -107,9 +142,7 @@ public class Column {
         if (isMultiField()) {
             throw new IllegalCallerException("Column '" + getData() + "' is a multi-field column.");
         }
-        String regex = "\\w+(?:\\.\\w+)+";
-        Matcher relationship = getMatcher(regex, data);
-        return Objects.nonNull(data) && relationship.matches();
+        return getDescriptor().isRelationship();
     }
 
     /**
@@ -118,13 +151,7 @@ public class Column {
      * @return list of fields
      */
     public List<String> getFieldList() {
-        List<String> fieldList = new ArrayList<>();
-        String regex = "\\w+(?:\\.\\w+)*";
-        Matcher field = getMatcher(regex, data);
-        while (field.find()) {
-            fieldList.add(field.group());
-        }
-        return fieldList;
+        return getDescriptor().getFieldList();
     }
 
     /**
@@ -138,13 +165,6 @@ public class Column {
         if (!hasRelationship()) {
             throw new IllegalCallerException("Column '" + getData() + "' has no relationship.");
         }
-        String regex = "(?<entityField>\\w+)(?:\\.\\w+)+";
-        Matcher entityField = getMatcher(regex, data);
-        return entityField.matches() ? entityField.group("entityField") : "";
-    }
-
-    private Matcher getMatcher(String regex, String input) {
-        Pattern patern = Pattern.compile(regex);
-        return patern.matcher(input);
+        return getDescriptor().getBaseField();
     }
 }
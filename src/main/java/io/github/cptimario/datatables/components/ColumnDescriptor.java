@@ -0,0 +1,89 @@
+package io.github.cptimario.datatables.components;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ColumnDescriptor class holds the parsed form of the data parameter of a datatables column.
+ * Descriptors are immutable and are shared by all the columns with the same data parameter.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+@Getter
+@ToString(of = "data")
+@EqualsAndHashCode(of = "data")
+public final class ColumnDescriptor {
+    private static final int MAXIMUM_CACHE_SIZE = 4096;
+    private static final Pattern FIELD_PATTERN = Pattern.compile("\\w+(?:\\.\\w+)*");
+    private static final Pattern FIELD_DELIMITER_PATTERN = Pattern.compile("\\w+(?:\\.\\w+)*(?<delimiter>\\W+)(?:\\w+(?:\\.\\w+)*)+");
+    private static final Pattern RELATIONSHIP_PATTERN = Pattern.compile("(?<baseField>\\w+)\\.(?<attributePath>\\w+(?:\\.\\w+)*)");
+    private static final ConcurrentMap<String, ColumnDescriptor> DESCRIPTOR_CACHE = new ConcurrentHashMap<>();
+
+    private final String data;
+    private final List<String> fieldList;
+    private final String fieldDelimiter;
+    private final boolean multiField;
+    private final boolean relationship;
+    private final String baseField;
+    private final String attributePath;
+    private final List<ColumnDescriptor> subColumnList;
+
+    /**
+     * Returns the descriptor of the specified data parameter
+     *
+     * @param data the data parameter
+     * @return the column descriptor
+     */
+    public static ColumnDescriptor of(String data) {
+        String key = Objects.requireNonNullElse(data, "");
+        ColumnDescriptor columnDescriptor = DESCRIPTOR_CACHE.get(key);
+        if (Objects.isNull(columnDescriptor)) {
+            columnDescriptor = new ColumnDescriptor(key);
+            if (DESCRIPTOR_CACHE.size() < MAXIMUM_CACHE_SIZE) {
+                ColumnDescriptor cached = DESCRIPTOR_CACHE.putIfAbsent(key, columnDescriptor);
+                columnDescriptor = Objects.requireNonNullElse(cached, columnDescriptor);
+            }
+        }
+        return columnDescriptor;
+    }
+
+    private ColumnDescriptor(String data) {
+        List<String> fields = new ArrayList<>();
+        Matcher field = FIELD_PATTERN.matcher(data);
+        while (field.find()) {
+            fields.add(field.group());
+        }
+        Matcher fieldDelimiterMatcher = FIELD_DELIMITER_PATTERN.matcher(data);
+        this.data = data;
+        this.fieldList = Collections.unmodifiableList(fields);
+        this.fieldDelimiter = fieldDelimiterMatcher.matches() ? fieldDelimiterMatcher.group("delimiter") : "";
+        this.multiField = fields.size() > 1;
+        if (multiField) {
+            List<ColumnDescriptor> subColumns = new ArrayList<>();
+            for (String fieldData : fields) {
+                subColumns.add(of(fieldData));
+            }
+            this.relationship = false;
+            this.baseField = "";
+            this.attributePath = "";
+            this.subColumnList = Collections.unmodifiableList(subColumns);
+        } else {
+            Matcher relationshipMatcher = RELATIONSHIP_PATTERN.matcher(data);
+            this.relationship = relationshipMatcher.matches();
+            this.baseField = relationship ? relationshipMatcher.group("baseField") : "";
+            this.attributePath = relationship ? relationshipMatcher.group("attributePath") : data;
+            this.subColumnList = List.of();
+        }
+    }
+}
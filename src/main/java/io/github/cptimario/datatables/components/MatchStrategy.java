@@ -0,0 +1,22 @@
+package io.github.cptimario.datatables.components;
+
+/**
+ * MatchStrategy enum holds the ways a column value can be matched against the search value
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public enum MatchStrategy {
+    /**
+     * Matches the column values which contain the search value
+     */
+    CONTAINS,
+    /**
+     * Matches the column values which start with the search value
+     */
+    PREFIX,
+    /**
+     * Matches the column values which are equal to the search value
+     */
+    EXACT
+}
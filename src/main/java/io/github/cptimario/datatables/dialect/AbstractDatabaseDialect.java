@@ -0,0 +1,33 @@
+package io.github.cptimario.datatables.dialect;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * AbstractDatabaseDialect class is the base of the database dialects which read their features from native queries.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public abstract class AbstractDatabaseDialect implements DatabaseDialect {
+    /**
+     * Returns the native query which selects the estimated number of rows of the table specified by the first parameter.
+     *
+     * @return the estimated row count query
+     */
+    protected abstract String getEstimatedRowCountQuery();
+
+    @Override
+    public OptionalLong getEstimatedRowCount(EntityManager entityManager, String tableName) {
+        Query query = entityManager.createNativeQuery(getEstimatedRowCountQuery());
+        query.setParameter(1, tableName);
+        List<?> resultList = query.getResultList();
+        if (resultList.isEmpty() || !(resultList.get(0) instanceof Number)) {
+            return OptionalLong.empty();
+        }
+        long rowCount = ((Number) resultList.get(0)).longValue();
+        return rowCount < 0 ? OptionalLong.empty() : OptionalLong.of(rowCount);
+    }
+}
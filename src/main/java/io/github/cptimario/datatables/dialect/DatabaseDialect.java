@@ -0,0 +1,74 @@
+package io.github.cptimario.datatables.dialect;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * DatabaseDialect interface provides the database specific features used by the datatables.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public interface DatabaseDialect {
+    /**
+     * Returns the estimated number of rows of the specified table from the statistics of the database.
+     *
+     * @param entityManager the entity manager
+     * @param tableName     the table name
+     * @return the estimated number of rows, or an empty value if the statistics are not available
+     */
+    OptionalLong getEstimatedRowCount(EntityManager entityManager, String tableName);
+
+    /**
+     * Returns the query condition which matches the field against a case-insensitive regular expression.
+     *
+     * @param field          the query field name
+     * @param regexParameter the named parameter of the regular expression
+     * @return the regular expression condition
+     */
+    String getRegexCondition(String field, String regexParameter);
+
+    /**
+     * Returns the statement which explains the execution plan of the specified SQL query.
+     *
+     * @param sql     the SQL query, with its parameters as {@code ?} placeholders
+     * @param analyze {@code true} to execute the query and report its actual execution, {@code false} to only plan it
+     * @return the explain statement, with the same parameters as the SQL query
+     */
+    String getExplainStatement(String sql, boolean analyze);
+
+    /**
+     * Returns the dialect of the database used by the entity manager.
+     *
+     * @param entityManager the entity manager
+     * @return the database dialect, or an empty value if the database is not supported
+     */
+    static Optional<DatabaseDialect> of(EntityManager entityManager) {
+        return of(entityManager.getEntityManagerFactory());
+    }
+
+    /**
+     * Returns the dialect of the database used by the entity manager factory.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @return the database dialect, or an empty value if the database is not supported
+     */
+    static Optional<DatabaseDialect> of(EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        String dialectName = dialect.getClass().getSimpleName();
+        if (dialectName.startsWith("H2")) {
+            return Optional.of(new H2DatabaseDialect());
+        } else if (dialectName.startsWith("PostgreSQL")) {
+            return Optional.of(new PostgreSQLDatabaseDialect());
+        } else if (dialectName.startsWith("MySQL") || dialectName.startsWith("MariaDB")) {
+            return Optional.of(new MySQLDatabaseDialect());
+        }
+        return Optional.empty();
+    }
+}
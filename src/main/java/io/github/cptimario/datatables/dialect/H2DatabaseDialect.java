@@ -0,0 +1,25 @@
+package io.github.cptimario.datatables.dialect;
+
+/**
+ * H2DatabaseDialect class provides the H2 specific features used by the datatables.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class H2DatabaseDialect extends AbstractDatabaseDialect {
+    @Override
+    protected String getEstimatedRowCountQuery() {
+        return "Select ROW_COUNT_ESTIMATE From INFORMATION_SCHEMA.TABLES " +
+                "Where Upper(TABLE_NAME) = Upper(?1) And TABLE_SCHEMA = Schema()";
+    }
+
+    @Override
+    public String getRegexCondition(String field, String regexParameter) {
+        return "function('regexp_like', " + field + ", :" + regexParameter + ", 'i') = true";
+    }
+
+    @Override
+    public String getExplainStatement(String sql, boolean analyze) {
+        return (analyze ? "EXPLAIN ANALYZE " : "EXPLAIN ") + sql;
+    }
+}
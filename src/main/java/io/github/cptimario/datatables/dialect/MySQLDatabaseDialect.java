@@ -0,0 +1,37 @@
+package io.github.cptimario.datatables.dialect;
+
+/**
+ * MySQLDatabaseDialect class provides the MySQL and MariaDB specific features used by the datatables.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class MySQLDatabaseDialect extends AbstractDatabaseDialect {
+    @Override
+    protected String getEstimatedRowCountQuery() {
+        return "Select TABLE_ROWS From information_schema.TABLES " +
+                "Where TABLE_SCHEMA = Database() And TABLE_NAME = ?1";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote This implementation uses 'regexp_instr', which is available on both MySQL and MariaDB.
+     * The case sensitivity follows the collation of the field.
+     */
+    @Override
+    public String getRegexCondition(String field, String regexParameter) {
+        return "function('regexp_instr', " + field + ", :" + regexParameter + ") > 0";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote This implementation always uses 'EXPLAIN', which is available on both MySQL and MariaDB and does not execute the query,
+     * since the analyzing statements of MySQL and MariaDB differ.
+     */
+    @Override
+    public String getExplainStatement(String sql, boolean analyze) {
+        return "EXPLAIN " + sql;
+    }
+}
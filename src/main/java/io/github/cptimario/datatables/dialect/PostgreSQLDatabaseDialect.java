@@ -0,0 +1,29 @@
+package io.github.cptimario.datatables.dialect;
+
+/**
+ * PostgreSQLDatabaseDialect class provides the PostgreSQL specific features used by the datatables.
+ *
+ * @author Christopher Timario
+ * @version v1.0.0
+ */
+public class PostgreSQLDatabaseDialect extends AbstractDatabaseDialect {
+    @Override
+    protected String getEstimatedRowCountQuery() {
+        return "Select reltuples From pg_class Where oid = to_regclass(?1)";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote This implementation uses 'texticregexeq', the function of the {@code ~*} operator.
+     */
+    @Override
+    public String getRegexCondition(String field, String regexParameter) {
+        return "function('texticregexeq', " + field + ", :" + regexParameter + ") = true";
+    }
+
+    @Override
+    public String getExplainStatement(String sql, boolean analyze) {
+        return (analyze ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ") + sql;
+    }
+}
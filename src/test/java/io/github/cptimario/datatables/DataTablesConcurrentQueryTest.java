@@ -0,0 +1,138 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.Order;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import io.github.cptimario.datatables.repository.TestRepository;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = TestRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DataTablesConcurrentQueryTest {
+
+    private final TestRepository testRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private ExecutorService executorService;
+    private DataTablesParameter dataTablesParameter;
+
+    @Autowired
+    public DataTablesConcurrentQueryTest(TestRepository testRepository, EntityManagerFactory entityManagerFactory) {
+        this.testRepository = testRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<ParentEntity> parentEntityList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ParentEntity parentEntity = new ParentEntity();
+            parentEntity.setData("parent " + i);
+            parentEntity.setDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            parentEntityList.add(parentEntity);
+        }
+        testRepository.saveAll(parentEntityList);
+        executorService = Executors.newFixedThreadPool(3);
+        dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("data")));
+        dataTablesParameter.setOrder(List.of(new Order(0, "asc")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdown();
+        testRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getDataTablesResponseTestConcurrent() {
+        dataTablesParameter.setSearchValue("parent 1");
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        DataTablesResponse<ParentEntity> expected = getSequentialResponse(dataTables);
+        DataTablesResponse<ParentEntity> actual = dataTables.getDataTablesResponse(entityManagerFactory, new QueryParameter(), executorService);
+        assertEquals(expected, actual);
+        assertEquals(100, actual.getRecordsTotal());
+        assertEquals(11, actual.getRecordsFiltered());
+    }
+
+    @Test
+    void getDataTablesResponseTestConcurrentNoSearch() {
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        DataTablesResponse<ParentEntity> actual = dataTables.getDataTablesResponse(entityManagerFactory, new QueryParameter(), executorService);
+        assertEquals(getSequentialResponse(dataTables), actual);
+        assertEquals(100, actual.getRecordsFiltered());
+    }
+
+    @Test
+    void getDataTablesResponseTestConcurrentStatelessSession() {
+        dataTablesParameter.setSearchValue("parent 1");
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setStatelessSession(true);
+        DataTablesResponse<ParentEntity> actual = dataTables.getDataTablesResponse(entityManagerFactory, new QueryParameter(), executorService);
+        assertEquals(getSequentialResponse(dataTables), actual);
+        assertEquals(10, actual.getResultList().size());
+    }
+
+    @Test
+    void getSearchResultListTestStatelessSessionWithoutTransaction() {
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setStatelessSession(true);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            assertEquals(10, dataTables.getSearchResultList(entityManager, new QueryParameter()).size());
+            assertFalse(entityManager.unwrap(SessionImplementor.class).getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void getDataTablesResponseAsyncTest() {
+        dataTablesParameter.setSearchValue("parent 1");
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        CompletableFuture<DataTablesResponse<ParentEntity>> future = dataTables.getDataTablesResponseAsync(entityManagerFactory, executorService);
+        assertEquals(getSequentialResponse(dataTables), future.join());
+    }
+
+    @Test
+    void getDataTablesResponseAsyncTestInvalidQuery() {
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.unknown = 1");
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        CompletableFuture<DataTablesResponse<ParentEntity>> future = dataTables.getDataTablesResponseAsync(entityManagerFactory, queryParameter, executorService);
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    private DataTablesResponse<ParentEntity> getSequentialResponse(DataTables<ParentEntity> dataTables) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return dataTables.getDataTablesResponse(entityManager, new QueryParameter());
+        } finally {
+            entityManager.close();
+        }
+    }
+}
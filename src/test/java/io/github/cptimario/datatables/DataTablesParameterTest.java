@@ -1,12 +1,13 @@
 package io.github.cptimario.datatables;
 
 import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.MatchStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class DataTablesParameterTest {
     @Test
@@ -24,6 +25,30 @@ public class DataTablesParameterTest {
         assertIterableEquals(getSubColumnList(), actual.get(4).getSubColumnList());
     }
 
+    @Test
+    void setColumnMatchStrategyTest() {
+        DataTablesParameter dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setColumns(getColumnList());
+        dataTablesParameter.setColumnMatchStrategy(MatchStrategy.PREFIX, 0, 4);
+        List<Column> actual = dataTablesParameter.getColumns();
+        assertEquals(MatchStrategy.PREFIX, actual.get(0).getMatchStrategy());
+        assertEquals(MatchStrategy.CONTAINS, actual.get(1).getMatchStrategy());
+        assertEquals(MatchStrategy.PREFIX, actual.get(4).getMatchStrategy());
+        assertTrue(actual.get(4).getSubColumnList().stream().allMatch(subColumn -> subColumn.getMatchStrategy() == MatchStrategy.PREFIX));
+    }
+
+    @Test
+    void setCaseInsensitiveColumnCollationTest() {
+        DataTablesParameter dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setColumns(getColumnList());
+        dataTablesParameter.setCaseInsensitiveColumnCollation(1, 4);
+        List<Column> actual = dataTablesParameter.getColumns();
+        assertFalse(actual.get(0).isCaseInsensitiveCollation());
+        assertTrue(actual.get(1).isCaseInsensitiveCollation());
+        assertTrue(actual.get(4).isCaseInsensitiveCollation());
+        assertTrue(actual.get(4).getSubColumnList().stream().allMatch(Column::isCaseInsensitiveCollation));
+    }
+
     private List<Column> getColumnList() {
         List<Column> columnList = new ArrayList<>();
         Column multiField = new Column("first second");
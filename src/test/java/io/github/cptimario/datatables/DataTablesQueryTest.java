@@ -1,11 +1,19 @@
 package io.github.cptimario.datatables;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.MatchStrategy;
 import io.github.cptimario.datatables.components.Order;
+import io.github.cptimario.datatables.dialect.H2DatabaseDialect;
 import io.github.cptimario.datatables.entity.ChildEntity;
 import io.github.cptimario.datatables.entity.OtherEntity;
 import io.github.cptimario.datatables.entity.ParentEntity;
 import io.github.cptimario.datatables.repository.TestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,14 +22,18 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ContextConfiguration;
 
 import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @EnableAutoConfiguration
@@ -144,6 +156,190 @@ public class DataTablesQueryTest {
         assertEquals(expected, dataTablesResponse);
     }
 
+    @Test
+    void getDataTablesResponseTestAllRecords() {
+        dataTablesParameter = getDataTablesParameter(1, 0, -1, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(getFilteredListBySearchValue("first"), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestReadOnly() {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        entityManager.clear();
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        Session session = entityManager.unwrap(Session.class);
+        assertTrue(dataTablesResponse.getResultList().stream().allMatch(session::isReadOnly));
+        entityManager.clear();
+        dataTables.setReadOnly(false);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertTrue(dataTablesResponse.getResultList().stream().noneMatch(session::isReadOnly));
+    }
+
+    @Test
+    void getDataTablesResponseTestStatelessSession() {
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        dataTablesParameter = getDataTablesParameter(1, 10, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setStatelessSession(true);
+        entityManager.clear();
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.subList(10, 20), dataTablesResponse.getResultList());
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertTrue(dataTablesResponse.getResultList().stream().noneMatch(entityManager::contains));
+    }
+
+    @Test
+    void getSearchResultListTestFetchGraph() {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            entityManager.clear();
+            statistics.clear();
+            List<ParentEntity> resultList = dataTables.getSearchResultList(entityManager, new QueryParameter());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(parentEntityList.subList(0, 10), resultList);
+            entityManager.clear();
+            statistics.clear();
+            dataTables.setFetchGraph(false);
+            dataTables.getSearchResultList(entityManager, new QueryParameter());
+            assertTrue(statistics.getPrepareStatementCount() > 1);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void getDataTablesResponseTestMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setMetrics(new MicrometerDataTablesMetrics(meterRegistry));
+        dataTables.getDataTablesResponse(entityManager);
+        assertEquals(1, meterRegistry.get("datatables.query").tag("phase", "result").timer().count());
+        assertEquals(1, meterRegistry.get("datatables.query").tag("phase", "total-count").timer().count());
+        assertEquals(1, meterRegistry.get("datatables.query").tag("phase", "filtered-count").timer().count());
+        assertEquals(3, meterRegistry.get("datatables.query").tag("phase", "build").timer().count());
+        assertEquals(1, meterRegistry.get("datatables.responses").tag("entity", "ParentEntity").counter().count());
+        assertEquals(10, meterRegistry.get("datatables.rows").summary().totalAmount());
+        assertEquals(5, meterRegistry.get("datatables.search.length").summary().totalAmount());
+    }
+
+    @Test
+    void getDataTablesResponseTestSlowQueryLog() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        slowQueryLog.setExplainEnabled(true);
+        slowQueryLog.setExplainExecutor(Runnable::run);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.id In (:ids)");
+        queryParameter.put("ids", parentEntityList.stream().map(ParentEntity::getId).limit(100).collect(Collectors.toList()));
+        dataTables.getDataTablesResponse(entityManager, queryParameter);
+        dataTables.setSlowQueryLog(slowQueryLog);
+        Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            dataTables.getDataTablesResponse(entityManager, queryParameter);
+            assertEquals(0, statistics.getQueryPlanCacheMissCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+        assertIterableEquals(List.of("FILTERED_COUNT", "TOTAL_COUNT", "RESULT_LIST"), slowQueries.stream().map(SlowQuery::getQueryType).collect(Collectors.toList()));
+        SlowQuery resultListQuery = slowQueries.get(2);
+        assertEquals("ParentEntity", resultListQuery.getEntityName());
+        assertTrue(resultListQuery.getQuery().contains("parentEntity.id In (:ids)"));
+        assertTrue(resultListQuery.getSql().toLowerCase().startsWith("select"));
+        assertTrue(resultListQuery.getSql().toLowerCase().split(" from ")[0].contains("child_entity_id"));
+        assertTrue(resultListQuery.getSql().toLowerCase().split(" from ")[0].contains("first_data"));
+        assertTrue(resultListQuery.getParameters().containsValue("first"));
+        assertNull(resultListQuery.getTranslationError());
+        assertNull(resultListQuery.getExplainError(), resultListQuery.getExplainError());
+        assertNotNull(resultListQuery.getExplainPlan());
+        assertFalse(resultListQuery.getExplainPlan().contains("scanCount"));
+        slowQueryLog.clear();
+        slowQueryLog.setParameterRedacted(true);
+        slowQueryLog.setExplainEnabled(false);
+        dataTables.getDataTablesResponse(entityManager, queryParameter);
+        resultListQuery = slowQueryLog.getSlowQueries().get(2);
+        assertTrue(resultListQuery.getParameters().values().stream().allMatch(SlowQueryLog.REDACTED_VALUE::equals));
+        assertNotNull(resultListQuery.getSql());
+        assertNull(resultListQuery.getExplainPlan());
+    }
+
+    @Test
+    void getDataTablesResponseTestSlowQueryLogErrors() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        slowQueryLog.setExplainEnabled(true);
+        slowQueryLog.setExplainExecutor(Runnable::run);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setSlowQueryLog(slowQueryLog);
+        dataTables.setDatabaseDialect(new H2DatabaseDialect() {
+            @Override
+            public String getExplainStatement(String sql, boolean analyze) {
+                return "EXPLAIN NOT " + sql;
+            }
+        });
+        dataTables.getDataTablesResponse(entityManager);
+        SlowQuery resultListQuery = slowQueryLog.getSlowQueries().get(2);
+        assertNull(resultListQuery.getTranslationError());
+        assertNotNull(resultListQuery.getSql());
+        assertNull(resultListQuery.getExplainPlan());
+        assertNotNull(resultListQuery.getExplainError());
+        slowQueryLog.clear();
+        slowQueryLog.setExplainExecutor(command -> {
+            throw new RejectedExecutionException("rejected");
+        });
+        dataTables.getDataTablesResponse(entityManager);
+        resultListQuery = slowQueryLog.getSlowQueries().get(2);
+        assertEquals("rejected", resultListQuery.getTranslationError());
+        assertNull(resultListQuery.getSql());
+        assertNull(resultListQuery.getExplainError());
+    }
+
+    @Test
+    void writeDataTablesResponseTest() throws IOException {
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        dataTablesParameter = getDataTablesParameter(3, 0, -1, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setFetchSize(7);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataTables.writeDataTablesResponse(entityManager, objectMapper, outputStream);
+        JsonNode response = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals(3, response.get("draw").asInt());
+        assertEquals(parentEntityList.size(), response.get("recordsTotal").asLong());
+        assertEquals(filteredList.size(), response.get("recordsFiltered").asLong());
+        assertFalse(response.get("recordsFilteredCapped").asBoolean());
+        JsonNode data = response.get("data");
+        assertEquals(filteredList.size(), data.size());
+        for (int index = 0; index < filteredList.size(); index++) {
+            assertEquals(filteredList.get(index).getId(), data.get(index).get("id").asInt());
+            assertEquals(filteredList.get(index).getData(), data.get(index).get("data").asText());
+        }
+    }
+
+    @Test
+    void writeDataTablesResponseTestStatelessSession() throws IOException {
+        ParentEntity managedEntity = parentEntityList.get(0);
+        dataTablesParameter = getDataTablesParameter(1, 0, -1, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setFetchSize(7);
+        dataTables.setStatelessSession(true);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataTables.writeDataTablesResponse(entityManager, objectMapper, outputStream);
+        assertEquals(parentEntityList.size(), objectMapper.readTree(outputStream.toByteArray()).get("data").size());
+        assertTrue(entityManager.contains(managedEntity));
+    }
+
     @Test
     void getDataTablesResponseTestLengthIs25() {
         int draw = 1;
@@ -223,4 +419,308 @@ public class DataTablesQueryTest {
         expected.setRecordsTotal(parentEntityList.size());
         assertEquals(expected, dataTablesResponse);
     }
+
+    @Test
+    void getDataTablesResponseTestWhereConditionParameter() {
+        int draw = 1;
+        int startIndex = 0;
+        int length = 10;
+        String searchValue = "first";
+        String data = parentEntityList.get(0).getData();
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.data = :data");
+        queryParameter.put("data", data);
+        dataTablesParameter = getDataTablesParameter(draw, startIndex, length, searchValue);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager, queryParameter);
+        List<ParentEntity> filteredList = getFilteredListBySearchValue(searchValue).stream().filter(parentEntity -> data.equals(parentEntity.getData())).collect(Collectors.toList());
+        assertEquals(1, dataTablesResponse.getRecordsTotal());
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+    }
+
+    @Test
+    void getDataTablesResponseTestNoSearch() {
+        int draw = 1;
+        int startIndex = 0;
+        int length = 10;
+        String searchValue = "";
+        dataTablesParameter = getDataTablesParameter(draw, startIndex, length, searchValue);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        List<ParentEntity> filteredList = getFilteredListBySearchValue(searchValue);
+        List<ParentEntity> resultList = IntStream.range(startIndex, startIndex + length).mapToObj(filteredList::get).collect(Collectors.toList());
+        DataTablesResponse<ParentEntity> expected = new DataTablesResponse<>();
+        expected.setDraw(dataTablesParameter.getDraw());
+        expected.setData(resultList);
+        expected.setResultList(resultList);
+        expected.setRecordsFiltered(parentEntityList.size());
+        expected.setRecordsTotal(parentEntityList.size());
+        assertEquals(expected, dataTablesResponse);
+    }
+
+    @Test
+    void getDataTablesResponseTestTotalCountCache() {
+        TotalCountCache totalCountCache = new TotalCountCache(Duration.ofMinutes(1), 10);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setTotalCountCache(totalCountCache);
+        assertEquals(parentEntityList.size(), dataTables.getDataTablesResponse(entityManager).getRecordsTotal());
+        testRepository.saveAndFlush(new ParentEntity());
+        assertEquals(parentEntityList.size(), dataTables.getDataTablesResponse(entityManager).getRecordsTotal());
+        totalCountCache.invalidate(ParentEntity.class);
+        assertEquals(parentEntityList.size() + 1, dataTables.getDataTablesResponse(entityManager).getRecordsTotal());
+    }
+
+    @Test
+    void getDataTablesResponseTestTotalCountEstimator() {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setTotalCountEstimator((entityManager, entity) -> OptionalLong.of(1000));
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(1000, dataTablesResponse.getRecordsTotal());
+        assertTrue(dataTablesResponse.isRecordsTotalEstimated());
+        assertEquals(getFilteredListBySearchValue("first").size(), dataTablesResponse.getRecordsFiltered());
+        assertFalse(dataTablesResponse.isRecordsFilteredEstimated());
+
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.id > :id");
+        queryParameter.put("id", 0);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager, queryParameter);
+        assertEquals(parentEntityList.size(), dataTablesResponse.getRecordsTotal());
+        assertFalse(dataTablesResponse.isRecordsTotalEstimated());
+    }
+
+    @Test
+    void getDataTablesResponseTestTotalCountEstimatorWithoutSearch() throws IOException {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setTotalCountEstimator((entityManager, entity) -> OptionalLong.of(1000));
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(1000, dataTablesResponse.getRecordsFiltered());
+        assertTrue(dataTablesResponse.isRecordsTotalEstimated());
+        assertTrue(dataTablesResponse.isRecordsFilteredEstimated());
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataTables.writeDataTablesResponse(entityManager, objectMapper, outputStream);
+        JsonNode response = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals(1000, response.get("recordsFiltered").asLong());
+        assertTrue(response.get("recordsFilteredEstimated").asBoolean());
+    }
+
+    @Test
+    void getDataTablesResponseTestTableStatisticsEstimator() {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setTotalCountEstimator(new TableStatisticsEstimator(0));
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertTrue(dataTablesResponse.isRecordsTotalEstimated());
+        assertEquals(dataTablesResponse.getRecordsTotal(), dataTablesResponse.getRecordsFiltered());
+
+        dataTables.setTotalCountEstimator(new TableStatisticsEstimator(Long.MAX_VALUE));
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(parentEntityList.size(), dataTablesResponse.getRecordsTotal());
+        assertFalse(dataTablesResponse.isRecordsTotalEstimated());
+    }
+
+    @Test
+    void getDataTablesResponseTestFilteredCountLimit() {
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setFilteredCountLimit(filteredList.size() - 1);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size() - 1, dataTablesResponse.getRecordsFiltered());
+        assertTrue(dataTablesResponse.isRecordsFilteredCapped());
+        assertEquals(filteredList.subList(0, 10), dataTablesResponse.getResultList());
+
+        dataTables.setFilteredCountLimit(filteredList.size());
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertFalse(dataTablesResponse.isRecordsFilteredCapped());
+    }
+
+    @Test
+    void getDataTablesResponseTestSearchBackend() {
+        List<String> searchedFields = new ArrayList<>();
+        List<ParentEntity> filteredList = parentEntityList.stream().filter(parentEntity -> parentEntity.getData().endsWith("7")).collect(Collectors.toList());
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "seven");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setSearchBackend((entityManager, entity, fields, searchValue) -> {
+            searchedFields.addAll(fields);
+            return Optional.of(filteredList.stream().map(ParentEntity::getId).collect(Collectors.toList()));
+        });
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(List.of("id", "data", "date", "childEntity.firstData", "childEntity.date", "otherEntity.firstData", "otherEntity.secondData"), searchedFields);
+        assertEquals(parentEntityList.size(), dataTablesResponse.getRecordsTotal());
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList.subList(0, 10), dataTablesResponse.getResultList());
+
+        dataTables.setSearchBackend((entityManager, entity, fields, searchValue) -> Optional.of(List.of()));
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(0, dataTablesResponse.getRecordsFiltered());
+        assertTrue(dataTablesResponse.getResultList().isEmpty());
+    }
+
+    @Test
+    void getDataTablesResponseTestSearchBackendNotResolved() {
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setSearchBackend((entityManager, entity, fields, searchValue) -> Optional.empty());
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList.subList(0, 10), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestPrefixMatchStrategy() {
+        List<ParentEntity> filteredList = parentEntityList.stream().filter(parentEntity -> parentEntity.getData().startsWith("parent 1")).collect(Collectors.toList());
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "PARENT 1");
+        dataTablesParameter.setColumnMatchStrategy(MatchStrategy.PREFIX, 0, 1, 2, 3, 4, 5);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList.subList(0, 10), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestExactMatchStrategy() {
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "parent 12");
+        dataTablesParameter.setColumnMatchStrategy(MatchStrategy.EXACT, 1);
+        dataTablesParameter.setCaseInsensitiveColumnCollation(1);
+        dataTablesParameter.getColumns().forEach(column -> column.setSearchable(column == dataTablesParameter.getColumns().get(1)));
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(1, dataTablesResponse.getRecordsFiltered());
+        assertEquals(List.of(parentEntityList.get(12)), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestNumericSearch() {
+        ParentEntity parentEntity = parentEntityList.get(42);
+        String searchValue = parentEntity.getId().toString();
+        List<ParentEntity> filteredList = getFilteredListBySearchValue(searchValue);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, searchValue);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertTrue(filteredList.contains(parentEntity));
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList.subList(0, Math.min(10, filteredList.size())), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestRegexSearch() {
+        List<ParentEntity> filteredList = parentEntityList.subList(10, 13);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "^PARENT 1[0-2]$");
+        dataTablesParameter.setSearchRegex(true);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList, dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestColumnRegexSearch() {
+        List<ParentEntity> filteredList = parentEntityList.stream().filter(parentEntity -> parentEntity.getData().matches("parent 4\\d")).collect(Collectors.toList());
+        columnList = List.of(new Column("id"), new Column("data", "parent 4\\d$"));
+        columnList.get(1).getSearch().setRegex(true);
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(filteredList, dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestDateRangeSearch() {
+        columnList = List.of(new Column("data"), new Column("date"));
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "2025-01");
+        dataTablesParameter.setDateColumnFormat("%Y-%m-%d", 1);
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(1, dataTablesResponse.getRecordsFiltered());
+        assertEquals(List.of(parentEntityList.get(5)), dataTablesResponse.getResultList());
+
+        dataTablesParameter.setSearchValue("2031");
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(List.of(parentEntityList.get(11)), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getProjectedDataTablesResponseTest() {
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "first");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        DataTablesResponse<Map<String, Object>> projectedResponse = dataTables.getProjectedDataTablesResponse(entityManager);
+        assertEquals(parentEntityList.size(), projectedResponse.getRecordsTotal());
+        assertEquals(filteredList.size(), projectedResponse.getRecordsFiltered());
+        assertEquals(10, projectedResponse.getResultList().size());
+        for (int index = 0; index < 10; index++) {
+            ParentEntity parentEntity = filteredList.get(index);
+            Map<String, Object> row = projectedResponse.getResultList().get(index);
+            assertEquals(parentEntity.getId(), row.get("id"));
+            assertEquals(parentEntity.getData(), row.get("data"));
+            assertEquals(parentEntity.getDate(), row.get("date"));
+            Map<?, ?> childEntity = (Map<?, ?>) row.get("childEntity");
+            Map<?, ?> otherEntity = (Map<?, ?>) row.get("otherEntity");
+            assertEquals(Objects.nonNull(parentEntity.getChildEntity()) ? parentEntity.getChildEntity().getFirstData() : null, childEntity.get("firstData"));
+            assertEquals(Objects.nonNull(parentEntity.getOtherEntity()) ? parentEntity.getOtherEntity().getSecondData() : null, otherEntity.get("secondData"));
+        }
+    }
+
+    @Test
+    void getDataTablesResponseTestKeysetPagination() {
+        KeysetPageCache keysetPageCache = new KeysetPageCache(10);
+        orderList = List.of(new Order(0, "desc"));
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("first");
+        Collections.reverse(filteredList);
+        for (int startIndex = 0; startIndex < 30; startIndex += 10) {
+            dataTablesParameter = getDataTablesParameter(1, startIndex, 10, "first");
+            dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+            dataTables.setKeysetPageCache(keysetPageCache);
+            dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+            assertEquals(filteredList.subList(startIndex, startIndex + 10), dataTablesResponse.getResultList());
+        }
+        assertEquals(6, keysetPageCache.size());
+    }
+
+    @Test
+    void getDataTablesResponseTestKeysetPaginationSeek() {
+        KeysetPageCache keysetPageCache = new KeysetPageCache(10);
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("");
+        dataTablesParameter = getDataTablesParameter(1, 0, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setKeysetPageCache(keysetPageCache);
+        dataTables.getDataTablesResponse(entityManager);
+        filteredList.get(0).setChildEntity(null);
+        filteredList.get(0).setOtherEntity(null);
+        testRepository.delete(filteredList.get(0));
+        testRepository.flush();
+        dataTablesParameter.setStart(10);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.subList(10, 20), dataTablesResponse.getResultList());
+    }
+
+    @Test
+    void getDataTablesResponseTestKeysetPaginationReverseSeek() {
+        KeysetPageCache keysetPageCache = new KeysetPageCache(10);
+        orderList = List.of(new Order(0, "desc"));
+        List<ParentEntity> filteredList = getFilteredListBySearchValue("");
+        Collections.reverse(filteredList);
+        dataTablesParameter = getDataTablesParameter(1, 20, 10, "");
+        dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setKeysetPageCache(keysetPageCache);
+        dataTables.getDataTablesResponse(entityManager);
+        filteredList.get(0).setChildEntity(null);
+        filteredList.get(0).setOtherEntity(null);
+        testRepository.delete(filteredList.get(0));
+        testRepository.flush();
+        dataTablesParameter.setStart(10);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.subList(10, 20), dataTablesResponse.getResultList());
+        dataTablesParameter.setStart(0);
+        dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(filteredList.subList(1, 11), dataTablesResponse.getResultList());
+    }
 }
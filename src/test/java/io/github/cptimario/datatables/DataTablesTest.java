@@ -1,16 +1,28 @@
 package io.github.cptimario.datatables;
 
 import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.MatchStrategy;
+import io.github.cptimario.datatables.dialect.H2DatabaseDialect;
+import io.github.cptimario.datatables.dialect.PostgreSQLDatabaseDialect;
+import io.github.cptimario.datatables.components.Order;
 import io.github.cptimario.datatables.entity.InvalidEntity;
+import io.github.cptimario.datatables.entity.OtherEntity;
 import io.github.cptimario.datatables.entity.ParentEntity;
+import io.github.cptimario.datatables.entity.PropertyAccessEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.persistence.EntityManager;
+
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 class DataTablesTest {
     private Column id;
@@ -56,7 +68,7 @@ class DataTablesTest {
         stringBuilder.append("Left Join ");
         stringBuilder.append("parentEntity.otherEntity ");
         stringBuilder.append("other_2");
-        assertEquals(stringBuilder.toString(), dataTables.getLeftJoinClause());
+        assertEquals(stringBuilder.toString(), dataTables.getLeftJoinClause(Set.of("childEntity", "otherEntity")));
     }
 
     @Test
@@ -71,7 +83,7 @@ class DataTablesTest {
         stringBuilder.append("Left Join ");
         stringBuilder.append("parentEntity.otherEntity ");
         stringBuilder.append("other_2");
-        assertEquals(stringBuilder.toString(), dataTables.getFromClause(DataTables.QueryType.RESULT_LIST));
+        assertEquals(stringBuilder.toString(), dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.RESULT_LIST));
     }
 
     @Test
@@ -86,7 +98,7 @@ class DataTablesTest {
         stringBuilder.append("Left Join ");
         stringBuilder.append("parentEntity.otherEntity ");
         stringBuilder.append("other_2");
-        assertEquals(stringBuilder.toString(), dataTables.getFromClause(DataTables.QueryType.FILTERED_COUNT));
+        assertEquals(stringBuilder.toString(), dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
     }
 
     @Test
@@ -95,7 +107,84 @@ class DataTablesTest {
         stringBuilder.append(" From ");
         stringBuilder.append("ParentEntity ");
         stringBuilder.append("parentEntity");
-        assertEquals(stringBuilder.toString(), dataTables.getFromClause(DataTables.QueryType.TOTAL_COUNT));
+        assertEquals(stringBuilder.toString(), dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.TOTAL_COUNT));
+    }
+
+    @Test
+    void getJoinedAssociationsTestNoSearch() {
+        dataTablesParameter.setSearchValue("");
+        assertEquals(Set.of("childEntity", "otherEntity"), dataTables.getJoinedAssociations(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
+        assertEquals(Set.of(), dataTables.getJoinedAssociations(new QueryParameter(), DataTables.QueryType.TOTAL_COUNT));
+        dataTablesParameter.setColumns(List.of(id, data, childEntityDate));
+        assertEquals(Set.of(), dataTables.getJoinedAssociations(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
+    }
+
+    @Test
+    void getJoinedAssociationsTestOrder() {
+        dataTablesParameter.setSearchValue("");
+        dataTablesParameter.setColumns(List.of(id, data, childEntityDate));
+        dataTablesParameter.setOrder(List.of(new Order(2, "asc")));
+        assertEquals(Set.of("childEntity"), dataTables.getJoinedAssociations(new QueryParameter(), DataTables.QueryType.RESULT_LIST));
+        assertEquals(Set.of(), dataTables.getJoinedAssociations(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
+    }
+
+    @Test
+    void getJoinedAssociationsTestQueryParameter() {
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addWhereCondition("parentEntity.childEntity.firstData = :data");
+        queryParameter.setSelectClause("Select other_2.firstData");
+        assertEquals(Set.of("childEntity"), dataTables.getJoinedAssociations(queryParameter, DataTables.QueryType.TOTAL_COUNT));
+        assertEquals(Set.of("childEntity", "otherEntity"), dataTables.getJoinedAssociations(queryParameter, DataTables.QueryType.RESULT_LIST));
+    }
+
+    @Test
+    void getFromClauseTestNoJoin() {
+        dataTablesParameter.setSearchValue("");
+        dataTablesParameter.setColumns(List.of(id, data));
+        assertEquals(" From ParentEntity parentEntity", dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
+    }
+
+    @Test
+    void isFilteredCountRequiredTest() {
+        assertTrue(dataTables.isFilteredCountRequired());
+        dataTablesParameter.setSearchValue("");
+        assertTrue(dataTables.isFilteredCountRequired());
+        dataTablesParameter.setColumns(List.of(id, data, childEntityDate));
+        data.setSearchable(false);
+        assertFalse(dataTables.isFilteredCountRequired());
+    }
+
+    @Test
+    void isKeysetPaginationApplicableTest() {
+        dataTablesParameter.setOrder(List.of(new Order(0, "desc")));
+        assertFalse(dataTables.isKeysetPaginationApplicable(new QueryParameter()));
+        dataTables.setKeysetPageCache(new KeysetPageCache(10));
+        assertTrue(dataTables.isKeysetPaginationApplicable(new QueryParameter()));
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addOrderCondition("parentEntity.data asc");
+        assertFalse(dataTables.isKeysetPaginationApplicable(queryParameter));
+        dataTablesParameter.setOrder(List.of(new Order(1, "asc")));
+        assertFalse(dataTables.isKeysetPaginationApplicable(new QueryParameter()));
+    }
+
+    @Test
+    void isKeysetPaginationApplicableTestBooleanSortKey() {
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("archived")));
+        DataTables<OtherEntity> otherDataTables = DataTables.of(OtherEntity.class, dataTablesParameter);
+        otherDataTables.setKeysetPageCache(new KeysetPageCache(10));
+        dataTablesParameter.setOrder(List.of(new Order(0, "asc")));
+        assertTrue(otherDataTables.isKeysetPaginationApplicable(new QueryParameter()));
+        dataTablesParameter.setOrder(List.of(new Order(1, "asc"), new Order(0, "asc")));
+        assertFalse(otherDataTables.isKeysetPaginationApplicable(new QueryParameter()));
+    }
+
+    @Test
+    void getSeekConditionTest() {
+        Map<String, String> sortKeys = new LinkedHashMap<>();
+        sortKeys.put("parentEntity.date", "desc");
+        sortKeys.put("parentEntity.id", "asc");
+        String seekCondition = "(parentEntity.date < :keyset_0 Or (parentEntity.date = :keyset_0 And parentEntity.id > :keyset_1))";
+        assertEquals(seekCondition, dataTables.getSeekCondition(sortKeys));
     }
 
     @Test
@@ -157,10 +246,153 @@ class DataTablesTest {
         assertEquals(stringBuilder.toString(), dataTables.getFieldQuery(fieldName, namedParameter));
     }
 
+    @Test
+    void getFieldQueryTestMatchStrategy() {
+        String fieldName = "parentEntity.data";
+        assertEquals(dataTables.getFieldQuery(fieldName, "value_0"), dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.CONTAINS, false));
+        assertEquals("parentEntity.data Like Concat('%', :value_0, '%') Escape '#'", dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.CONTAINS, true));
+        assertEquals("Upper(parentEntity.data) Like Upper(:value_0) Escape '#'", dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.PREFIX, false));
+        assertEquals("parentEntity.data Like :value_0 Escape '#'", dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.PREFIX, true));
+        assertEquals("Upper(parentEntity.data) = Upper(:value_0)", dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.EXACT, false));
+        assertEquals("parentEntity.data = :value_0", dataTables.getFieldQuery(fieldName, "value_0", MatchStrategy.EXACT, true));
+    }
+
+    @Test
+    void getSearchConditionTestMatchStrategy() {
+        QueryParameter queryParameter = new QueryParameter();
+        dataTablesParameter.setColumnMatchStrategy(MatchStrategy.PREFIX, 1);
+        dataTablesParameter.setColumnMatchStrategy(MatchStrategy.EXACT, 2);
+        dataTables.getSearchCondition(queryParameter);
+        assertEquals("lorem ipsum%", queryParameter.get("value_1"));
+        assertEquals("lorem", queryParameter.get("value_2"));
+        assertEquals("ipsum", queryParameter.get("value_3"));
+    }
+
+    @Test
+    void getSearchConditionTestTypedColumnNotMatchable() {
+        List<String> searchConditionList = new ArrayList<>();
+        QueryParameter queryParameter = new QueryParameter();
+        dataTablesParameter.setSearchValue("abc");
+        searchConditionList.add(dataTables.getFieldQuery("parentEntity.data", "value_0"));
+        searchConditionList.add(dataTables.getFieldQuery("child_1.firstData", "value_1"));
+        searchConditionList.add(dataTables.getFieldQuery("Concat(other_2.firstData, ' ~ ', other_2.secondData)", "value_2"));
+        searchConditionList.add(dataTables.getFieldQuery("child_1.date", "value_3"));
+        String searchCondition = "(" + String.join(" Or ", searchConditionList) + ")";
+        assertEquals(searchCondition, dataTables.getSearchCondition(queryParameter));
+        assertEquals("lorem ipsum", queryParameter.get("value_0"));
+    }
+
+    @Test
+    void getSearchConditionTestNoMatchableColumn() {
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("childEntity.id")));
+        dataTablesParameter.setSearchValue("abc");
+        assertEquals("1 = 0", dataTables.getSearchCondition(new QueryParameter()));
+    }
+
+    @Test
+    void getTypedSearchTypeTest() {
+        dataTablesParameter.setDateColumnFormat("%Y/%m/%d", 4);
+        assertEquals(Integer.class, dataTables.getTypedSearchType(id));
+        assertEquals(Integer.class, dataTables.getTypedSearchType(new Column("childEntity.id")));
+        assertNull(dataTables.getTypedSearchType(data));
+        assertNull(dataTables.getTypedSearchType(otherEntity));
+        assertNull(dataTables.getTypedSearchType(childEntityDate));
+        assertNull(dataTables.getTypedSearchType(new Column("unknown.id")));
+    }
+
+    @Test
+    void getRegexLiteralPrefixTest() {
+        assertEquals("ABC", DataTables.getRegexLiteralPrefix("^ABC.*"));
+        assertEquals("AB", DataTables.getRegexLiteralPrefix("^ABC?D"));
+        assertEquals("ABC", DataTables.getRegexLiteralPrefix("^ABC+"));
+        assertEquals("A.B", DataTables.getRegexLiteralPrefix("^A\\.B\\d"));
+        assertEquals("", DataTables.getRegexLiteralPrefix("ABC"));
+        assertEquals("", DataTables.getRegexLiteralPrefix("^ABC|^DEF"));
+        assertEquals("", DataTables.getRegexLiteralPrefix("^[A-Z]+"));
+    }
+
+    @Test
+    void getSearchConditionTestRegex() {
+        QueryParameter queryParameter = new QueryParameter();
+        dataTablesParameter.setColumns(List.of(new Column("data"), new Column("childEntity.firstData")));
+        dataTablesParameter.setSearchValue("^AB_C.*");
+        dataTablesParameter.setSearchRegex(true);
+        dataTables.setDatabaseDialect(new H2DatabaseDialect());
+        String searchCondition = "((Upper(parentEntity.data) Like Upper(:value_1) Escape '#' And function('regexp_like', parentEntity.data, :value_0, 'i') = true)" +
+                " Or (Upper(child_1.firstData) Like Upper(:value_3) Escape '#' And function('regexp_like', child_1.firstData, :value_2, 'i') = true))";
+        assertEquals(searchCondition, dataTables.getSearchCondition(queryParameter));
+        assertEquals("^AB_C.*", queryParameter.get("value_0"));
+        assertEquals("AB#_C%", queryParameter.get("value_1"));
+    }
+
+    @Test
+    void getQueryTestRegexDatabaseDialects() {
+        dataTablesParameter.setColumns(List.of(new Column("data")));
+        dataTablesParameter.setSearchValue("^AB");
+        dataTablesParameter.setSearchRegex(true);
+        dataTables.setDatabaseDialect(new H2DatabaseDialect());
+        String h2Query = dataTables.getQuery(new QueryParameter(), DataTables.QueryType.RESULT_LIST);
+        DataTables<ParentEntity> otherDataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        otherDataTables.setDatabaseDialect(new PostgreSQLDatabaseDialect());
+        String postgreSQLQuery = otherDataTables.getQuery(new QueryParameter(), DataTables.QueryType.RESULT_LIST);
+        assertNotEquals(h2Query, postgreSQLQuery);
+        assertTrue(h2Query.contains("regexp_like"));
+        assertTrue(postgreSQLQuery.contains("texticregexeq"));
+    }
+
+    @Test
+    void getSearchConditionTestDateRange() {
+        QueryParameter queryParameter = new QueryParameter();
+        dataTablesParameter.setColumns(List.of(new Column("date"), new Column("childEntity.date")));
+        dataTablesParameter.setDateColumnFormat("%Y-%m-%d", 0, 1);
+        dataTablesParameter.setSearchValue("2024-03");
+        String searchCondition = "((parentEntity.date >= :value_0 And parentEntity.date < :value_1) Or (child_1.date >= :value_2 And child_1.date < :value_3))";
+        assertEquals(searchCondition, dataTables.getSearchCondition(queryParameter));
+        assertEquals(LocalDate.of(2024, 3, 1), queryParameter.get("value_0"));
+        assertEquals(LocalDate.of(2024, 4, 1), queryParameter.get("value_1"));
+    }
+
+    @Test
+    void getSearchConditionTestDateFormatFallback() {
+        dataTablesParameter.setColumns(List.of(new Column("date")));
+        dataTablesParameter.setDateColumnFormat("%Y-%m-%d", 0);
+        dataTablesParameter.setSearchValue("03-15");
+        String searchCondition = "(" + dataTables.getFieldQuery("function('date_format', parentEntity.date, '%Y-%m-%d')", "value_0") + ")";
+        assertEquals(searchCondition, dataTables.getSearchCondition(new QueryParameter()));
+    }
+
+    @Test
+    void getProjectedAttributePathsTest() {
+        dataTablesParameter.setColumns(List.of(id, otherEntity, new Column("childEntity"), new Column("childEntity.firstData"), new Column("unknown"), new Column("id")));
+        assertEquals(List.of("id", "otherEntity.firstData", "otherEntity.secondData", "childEntity.firstData"), dataTables.getProjectedAttributePaths());
+    }
+
+    @Test
+    void getFetchedAssociationPathsTest() {
+        dataTablesParameter.setColumns(List.of(id, otherEntity, new Column("childEntity"), new Column("childEntity.firstData"), new Column("data.length")));
+        assertEquals(Set.of("otherEntity", "childEntity"), dataTables.getFetchedAssociationPaths());
+        dataTablesParameter.setColumns(List.of(id));
+        assertTrue(dataTables.getFetchedAssociationPaths().isEmpty());
+    }
+
+    @Test
+    void getProjectionSelectClauseTest() {
+        assertEquals("Select parentEntity.id, parentEntity.childEntity.firstData", dataTables.getProjectionSelectClause(List.of("id", "childEntity.firstData")));
+        assertEquals("Select parentEntity.id", dataTables.getProjectionSelectClause(List.of()));
+    }
+
+    @Test
+    void getProjectedDataTablesResponseTestSelectClause() {
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.setSelectClause("Select parentEntity.data");
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> dataTables.getProjectedDataTablesResponse(null, queryParameter));
+        assertEquals("Projection cannot be used with a select clause or group by fields.", exception.getMessage());
+    }
+
     @Test
     void getSearchConditionTest() {
         List<String> searchConditionList = new ArrayList<>();
-        searchConditionList.add(dataTables.getFieldQuery("parentEntity.id", "value_0"));
+        searchConditionList.add("parentEntity.id = :value_0");
         searchConditionList.add(dataTables.getFieldQuery("parentEntity.data", "value_1"));
         searchConditionList.add(dataTables.getFieldQuery("child_1.firstData", "value_2"));
         searchConditionList.add(dataTables.getFieldQuery("Concat(other_2.firstData, ' ~ ', other_2.secondData)", "value_3"));
@@ -173,7 +405,7 @@ class DataTablesTest {
     void getQueryTestTotalCountQuery() {
         stringBuilder = new StringBuilder();
         stringBuilder.append("Select Count(parentEntity)");
-        stringBuilder.append(dataTables.getFromClause(DataTables.QueryType.TOTAL_COUNT));
+        stringBuilder.append(dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.TOTAL_COUNT));
         assertEquals(stringBuilder.toString(), dataTables.getQuery(new QueryParameter(), DataTables.QueryType.TOTAL_COUNT));
     }
 
@@ -181,22 +413,166 @@ class DataTablesTest {
     void getQueryTestFilteredCountQuery() {
         stringBuilder = new StringBuilder();
         stringBuilder.append("Select Count(parentEntity)");
-        stringBuilder.append(dataTables.getFromClause(DataTables.QueryType.FILTERED_COUNT));
+        stringBuilder.append(dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
         stringBuilder.append(" Where ");
         stringBuilder.append(dataTables.getSearchCondition(new QueryParameter()));
         assertEquals(stringBuilder.toString(), dataTables.getQuery(new QueryParameter(), DataTables.QueryType.FILTERED_COUNT));
     }
 
+    @Test
+    void getQueryTestCappedFilteredCountQuery() {
+        stringBuilder = new StringBuilder();
+        stringBuilder.append("Select parentEntity.id");
+        stringBuilder.append(dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.CAPPED_FILTERED_COUNT));
+        stringBuilder.append(" Where ");
+        stringBuilder.append(dataTables.getSearchCondition(new QueryParameter()));
+        assertEquals(stringBuilder.toString(), dataTables.getQuery(new QueryParameter(), DataTables.QueryType.CAPPED_FILTERED_COUNT));
+    }
+
+    @Test
+    void getSelectCappedCountClauseTestGroupBy() {
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addGroupByField("parentEntity.data");
+        queryParameter.addGroupByField("parentEntity.childEntity.data");
+        assertEquals("Select Distinct parentEntity.data, child_1.data", dataTables.getSelectCappedCountClause(queryParameter));
+    }
+
+    @Test
+    void isFilteredCountCappedTest() {
+        assertFalse(dataTables.isFilteredCountCapped(new QueryParameter()));
+        dataTables.setFilteredCountLimit(1000);
+        assertTrue(dataTables.isFilteredCountCapped(new QueryParameter()));
+    }
+
+    @Test
+    void isFilteredCountCappedTestUnknownIdAttribute() {
+        DataTables<PropertyAccessEntity> propertyAccessDataTables = DataTables.of(PropertyAccessEntity.class, dataTablesParameter);
+        propertyAccessDataTables.setFilteredCountLimit(1000);
+        assertFalse(propertyAccessDataTables.isFilteredCountCapped(new QueryParameter()));
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.addGroupByField("propertyAccessEntity.data");
+        assertTrue(propertyAccessDataTables.isFilteredCountCapped(queryParameter));
+    }
+
+    @Test
+    void setFilteredCountLimitTestInvalidLimit() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> dataTables.setFilteredCountLimit(-1));
+        assertEquals("'-1' not a valid filtered count limit.", exception.getMessage());
+    }
+
+    @Test
+    void setFetchSizeTestInvalidFetchSize() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> dataTables.setFetchSize(0));
+        assertEquals("'0' not a valid fetch size.", exception.getMessage());
+    }
+
+    @Test
+    void getIndexedSearchConditionTest() {
+        QueryParameter queryParameter = new QueryParameter();
+        assertEquals("", dataTables.getIndexedSearchCondition(queryParameter));
+        queryParameter.put(DataTables.SEARCH_IDS_PARAMETER, List.of(1, 2));
+        assertEquals("parentEntity.id In (:datatables_search_ids)", dataTables.getIndexedSearchCondition(queryParameter));
+        queryParameter.put(DataTables.SEARCH_IDS_PARAMETER, List.of());
+        assertEquals("1 = 0", dataTables.getIndexedSearchCondition(queryParameter));
+    }
+
+    @Test
+    void getIndexedSearchParameterTestReservedParameter() {
+        QueryParameter queryParameter = new QueryParameter();
+        queryParameter.put(DataTables.SEARCH_IDS_PARAMETER, List.of(1));
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> dataTables.getIndexedSearchParameter(null, queryParameter));
+        assertEquals("'datatables_search_ids' not a valid query parameter name.", exception.getMessage());
+        QueryParameter otherQueryParameter = new QueryParameter();
+        otherQueryParameter.put(DataTables.SEARCH_COLUMNS_PARAMETER, Set.of(0));
+        exception = assertThrows(IllegalArgumentException.class, () -> dataTables.getIndexedSearchParameter(null, otherQueryParameter));
+        assertEquals("'datatables_search_columns' not a valid query parameter name.", exception.getMessage());
+    }
+
+    @Test
+    void getQueryTestIndexedSearchWithColumnSearchValues() {
+        SearchBackend searchBackend = (entityManager, entity, fields, searchValue) -> Optional.of(List.of(1, 2));
+        dataTablesParameter.setSearchValue("foo");
+        dataTablesParameter.setColumns(List.of(new Column("data", "x"), new Column("childEntity.firstData")));
+        dataTables.setSearchBackend(searchBackend);
+        QueryParameter searchParameter = dataTables.getIndexedSearchParameter(null, new QueryParameter());
+        String query = dataTables.getQuery(searchParameter, DataTables.QueryType.RESULT_LIST);
+        assertTrue(query.contains("Upper(parentEntity.data)"));
+        assertFalse(query.contains("Upper(child_1.firstData)"));
+
+        DataTablesParameter otherParameter = new DataTablesParameter();
+        otherParameter.setSearchValue("foo");
+        otherParameter.setColumns(List.of(new Column("data"), new Column("childEntity.firstData", "y")));
+        DataTables<ParentEntity> otherDataTables = DataTables.of(ParentEntity.class, otherParameter);
+        otherDataTables.setSearchBackend(searchBackend);
+        QueryParameter otherSearchParameter = otherDataTables.getIndexedSearchParameter(null, new QueryParameter());
+        String otherQuery = otherDataTables.getQuery(otherSearchParameter, DataTables.QueryType.RESULT_LIST);
+        assertFalse(otherQuery.contains("Upper(parentEntity.data)"));
+        assertTrue(otherQuery.contains("Upper(child_1.firstData)"));
+        assertEquals("y", otherSearchParameter.get("value_2"));
+    }
+
+    @Test
+    void getQueryTestIndexedSearchMixedColumns() {
+        SearchBackend searchBackend = new SearchBackend() {
+            @Override
+            public Optional<List<?>> search(EntityManager entityManager, Class<?> entity, List<String> fields, String searchValue) {
+                assertEquals(List.of("data"), fields);
+                return Optional.of(List.of(1, 2));
+            }
+
+            @Override
+            public List<String> getSearchableFields(EntityManager entityManager, Class<?> entity, List<String> fields) {
+                return List.of("data");
+            }
+        };
+        dataTablesParameter.setSearchValue("foo");
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("data"), new Column("date"), new Column("childEntity.firstData")));
+        dataTables.setSearchBackend(searchBackend);
+        QueryParameter searchParameter = dataTables.getIndexedSearchParameter(null, new QueryParameter());
+        assertEquals(Set.of(1), searchParameter.get(DataTables.SEARCH_COLUMNS_PARAMETER));
+        String query = dataTables.getQuery(searchParameter, DataTables.QueryType.RESULT_LIST);
+        assertTrue(query.contains("(parentEntity.id In (:datatables_search_ids) Or "));
+        assertFalse(query.contains("Upper(parentEntity.data)"));
+        assertTrue(query.contains("parentEntity.date"));
+        assertTrue(query.contains("Upper(child_1.firstData)"));
+    }
+
     @Test
     void getQueryTestResultListQuery() {
         stringBuilder = new StringBuilder();
         stringBuilder.append("Select parentEntity");
-        stringBuilder.append(dataTables.getFromClause(DataTables.QueryType.RESULT_LIST));
+        stringBuilder.append(dataTables.getFromClause(new QueryParameter(), DataTables.QueryType.RESULT_LIST));
         stringBuilder.append(" Where ");
         stringBuilder.append(dataTables.getSearchCondition(new QueryParameter()));
         assertEquals(stringBuilder.toString(), dataTables.getQuery(new QueryParameter(), DataTables.QueryType.RESULT_LIST));
     }
 
+    @Test
+    void getQueryTemplateTestSameShape() {
+        QueryParameter firstParameter = new QueryParameter();
+        QueryParameter secondParameter = new QueryParameter();
+        QueryTemplate queryTemplate = dataTables.getQueryTemplate(firstParameter, DataTables.QueryType.RESULT_LIST);
+        dataTablesParameter.setSearchValue("456");
+        assertSame(queryTemplate, dataTables.getQueryTemplate(secondParameter, DataTables.QueryType.RESULT_LIST));
+        assertEquals(123, firstParameter.get("value_0"));
+        assertEquals(456, secondParameter.get("value_0"));
+    }
+
+    @Test
+    void getQueryTemplateTestDifferentShape() {
+        QueryTemplate queryTemplate = dataTables.getQueryTemplate(new QueryParameter(), DataTables.QueryType.RESULT_LIST);
+        dataTablesParameter.setSearchValue("");
+        assertNotSame(queryTemplate, dataTables.getQueryTemplate(new QueryParameter(), DataTables.QueryType.RESULT_LIST));
+    }
+
+    @Test
+    void getClauseWithAliasTest() {
+        assertEquals("parentEntity.data = :data", dataTables.getClauseWithAlias("parentEntity.data = :data"));
+        assertEquals("child_1.firstData = other_2.firstData", dataTables.getClauseWithAlias("parentEntity.childEntity.firstData = parentEntity.otherEntity.firstData"));
+        assertEquals("parentEntity.childEntity Is Null", dataTables.getClauseWithAlias("parentEntity.childEntity Is Null"));
+        assertEquals("parentEntity.unknown.data", dataTables.getClauseWithAlias("parentEntity.unknown.data"));
+    }
+
     @Test
     void escapeWildcardsTest() {
         String text = "asd%%asd% asd__as#d _ asdasd% asd";
@@ -0,0 +1,54 @@
+package io.github.cptimario.datatables;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateSearchRangeTest {
+    @Test
+    void ofTestYear() {
+        DateSearchRange dateSearchRange = new DateSearchRange(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+        assertEquals(Optional.of(dateSearchRange), DateSearchRange.of("%Y-%m-%d", "2024", LocalDate.class));
+        assertEquals(Optional.of(dateSearchRange), DateSearchRange.of("%Y-%m-%d", "2024-", LocalDate.class));
+    }
+
+    @Test
+    void ofTestMonth() {
+        DateSearchRange dateSearchRange = new DateSearchRange(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 1));
+        assertEquals(Optional.of(dateSearchRange), DateSearchRange.of("%Y/%m/%d", "2024/12", LocalDate.class));
+        assertEquals(Optional.of(dateSearchRange), DateSearchRange.of("%Y/%c/%e", "2024/12", LocalDate.class));
+    }
+
+    @Test
+    void ofTestDayWithoutPadding() {
+        DateSearchRange dateSearchRange = new DateSearchRange(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 16));
+        assertEquals(Optional.of(dateSearchRange), DateSearchRange.of("%Y/%c/%e", "2024/3/15", LocalDate.class));
+        assertTrue(DateSearchRange.of("%Y/%c/%e", "2024/3/1", LocalDate.class).isEmpty());
+    }
+
+    @Test
+    void ofTestDateTime() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 5, 13, 0);
+        assertEquals(Optional.of(new DateSearchRange(from, from.plusHours(1))), DateSearchRange.of("%Y-%m-%d %H:%i:%s", "2024-03-05 13", LocalDateTime.class));
+        assertEquals(Optional.of(new DateSearchRange(Timestamp.valueOf(from), Timestamp.valueOf(from.plusHours(1)))),
+                DateSearchRange.of("%Y-%m-%d %H:%i:%s", "2024-03-05 13", Date.class));
+        assertTrue(DateSearchRange.of("%Y-%m-%d %H:%i:%s", "2024-03-05 13", LocalDate.class).isEmpty());
+    }
+
+    @Test
+    void ofTestNotRange() {
+        assertTrue(DateSearchRange.of("%Y-%m-%d", "03-05", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%d/%m/%Y", "05/03", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%Y-%m-%d", "2024-3", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%Y-%m-%d", "2024-13", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%Y-%m-%d", "2024-02-30", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%Y-%b", "2024-Mar", LocalDate.class).isEmpty());
+        assertTrue(DateSearchRange.of("%Y-%m-%d", "2024", String.class).isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.entity.ChildEntity;
+import io.github.cptimario.datatables.entity.InvalidEntity;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityMetadataTest {
+    @Test
+    void ofTestInvalidEntity() {
+        String message = InvalidEntity.class.getName() + " is not a valid entity.";
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> EntityMetadata.of(InvalidEntity.class));
+        assertEquals(message, exception.getMessage());
+    }
+
+    @Test
+    void ofTestSharedInstance() {
+        assertSame(EntityMetadata.of(ParentEntity.class), EntityMetadata.of(ParentEntity.class));
+    }
+
+    @Test
+    void getAliasMapTest() {
+        Map<String, String> aliasMap = EntityMetadata.of(ParentEntity.class).getAliasMap();
+        assertIterableEquals(List.of("ParentEntity", "childEntity", "otherEntity"), aliasMap.keySet());
+        assertIterableEquals(List.of("parentEntity", "child_1", "other_2"), aliasMap.values());
+    }
+
+    @Test
+    void getAssociationsTest() {
+        assertIterableEquals(List.of("childEntity", "otherEntity"), EntityMetadata.of(ParentEntity.class).getAssociations());
+        assertTrue(EntityMetadata.of(ChildEntity.class).getAssociations().isEmpty());
+    }
+
+    @Test
+    void getAttributeTypeTest() {
+        EntityMetadata entityMetadata = EntityMetadata.of(ParentEntity.class);
+        assertEquals("id", entityMetadata.getIdAttribute());
+        assertEquals(Integer.class, entityMetadata.getAttributeType("id"));
+        assertEquals(LocalDate.class, entityMetadata.getAttributeType("date"));
+        assertEquals(ChildEntity.class, entityMetadata.getAttributeType("childEntity"));
+        assertNull(entityMetadata.getAttributeType("unknown"));
+    }
+
+    @Test
+    void getAttributePathTypeTest() {
+        EntityMetadata entityMetadata = EntityMetadata.of(ParentEntity.class);
+        assertEquals(Integer.class, entityMetadata.getAttributePathType("id"));
+        assertEquals(String.class, entityMetadata.getAttributePathType("childEntity.firstData"));
+        assertEquals(LocalDate.class, entityMetadata.getAttributePathType("otherEntity.date"));
+        assertNull(entityMetadata.getAttributePathType("data.length"));
+        assertNull(entityMetadata.getAttributePathType("childEntity.unknown"));
+    }
+}
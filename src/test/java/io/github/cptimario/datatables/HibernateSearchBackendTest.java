@@ -0,0 +1,130 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.Column;
+import io.github.cptimario.datatables.components.Order;
+import io.github.cptimario.datatables.entity.ChildEntity;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import io.github.cptimario.datatables.repository.TestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@EnableAutoConfiguration
+@ContextConfiguration(classes = TestRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class HibernateSearchBackendTest {
+
+    private final TestRepository testRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+    private List<ParentEntity> alphaEntityList;
+
+    @Autowired
+    public HibernateSearchBackendTest(TestRepository testRepository, EntityManagerFactory entityManagerFactory) {
+        this.testRepository = testRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<ParentEntity> parentEntityList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ParentEntity parentEntity = new ParentEntity();
+            parentEntity.setData((i % 2 == 0 ? "Alpha" : "Beta") + " entity " + i);
+            parentEntityList.add(parentEntity);
+        }
+        testRepository.saveAll(parentEntityList);
+        alphaEntityList = parentEntityList.stream().filter(parentEntity -> parentEntity.getData().startsWith("Alpha")).collect(Collectors.toList());
+        entityManager = entityManagerFactory.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        testRepository.deleteAll();
+    }
+
+    @Test
+    void searchTestPrefix() {
+        HibernateSearchBackend searchBackend = new HibernateSearchBackend(100);
+        Optional<List<?>> ids = searchBackend.search(entityManager, ParentEntity.class, List.of("data"), "alp ent");
+        assertTrue(ids.isPresent());
+        assertEquals(alphaEntityList.stream().map(ParentEntity::getId).collect(Collectors.toSet()), new HashSet<>(ids.get()));
+    }
+
+    @Test
+    void searchTestNotIndexedField() {
+        HibernateSearchBackend searchBackend = new HibernateSearchBackend(100);
+        assertTrue(searchBackend.search(entityManager, ParentEntity.class, List.of("data", "date"), "alpha").isEmpty());
+    }
+
+    @Test
+    void searchTestMaximumResultsExceeded() {
+        HibernateSearchBackend searchBackend = new HibernateSearchBackend(alphaEntityList.size() - 1);
+        assertTrue(searchBackend.search(entityManager, ParentEntity.class, List.of("data"), "alpha").isEmpty());
+    }
+
+    @Test
+    void getPrefixQueryTest() {
+        assertEquals("alpha* \\-beta* \\\"gamma\\\"*", HibernateSearchBackend.getPrefixQuery(" alpha  -beta \"gamma\" "));
+    }
+
+    @Test
+    void getDataTablesResponseTestSearchBackend() {
+        DataTablesParameter dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setLength(5);
+        dataTablesParameter.setSearchValue("alpha");
+        dataTablesParameter.setColumns(List.of(new Column("data")));
+        dataTablesParameter.setOrder(List.of(new Order(0, "asc")));
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setSearchBackend(new HibernateSearchBackend(100));
+        DataTablesResponse<ParentEntity> dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        assertEquals(20, dataTablesResponse.getRecordsTotal());
+        assertEquals(alphaEntityList.size(), dataTablesResponse.getRecordsFiltered());
+        assertTrue(dataTablesResponse.getResultList().stream().allMatch(parentEntity -> parentEntity.getData().startsWith("Alpha")));
+    }
+
+    @Test
+    void getDataTablesResponseTestSearchBackendMixedColumns() {
+        ParentEntity betaEntity = testRepository.findAll().stream()
+                .filter(parentEntity -> parentEntity.getData().startsWith("Beta")).findFirst().orElseThrow();
+        ChildEntity childEntity = new ChildEntity();
+        childEntity.setFirstData("alp entry child");
+        betaEntity.setChildEntity(childEntity);
+        betaEntity.setDate(LocalDate.of(2021, Month.JANUARY, 1));
+        testRepository.save(betaEntity);
+        DataTablesParameter dataTablesParameter = new DataTablesParameter();
+        dataTablesParameter.setLength(-1);
+        dataTablesParameter.setSearchValue("alp ent");
+        dataTablesParameter.setColumns(List.of(new Column("id"), new Column("data"), new Column("date"), new Column("childEntity.firstData")));
+        dataTablesParameter.setOrder(List.of(new Order(0, "asc")));
+        DataTables<ParentEntity> dataTables = DataTables.of(ParentEntity.class, dataTablesParameter);
+        dataTables.setSearchBackend(new HibernateSearchBackend(100));
+        DataTablesResponse<ParentEntity> dataTablesResponse = dataTables.getDataTablesResponse(entityManager);
+        Set<Integer> expectedIds = alphaEntityList.stream().map(ParentEntity::getId).collect(Collectors.toSet());
+        expectedIds.add(betaEntity.getId());
+        assertEquals(expectedIds.size(), dataTablesResponse.getRecordsFiltered());
+        assertEquals(expectedIds, dataTablesResponse.getResultList().stream().map(ParentEntity::getId).collect(Collectors.toSet()));
+    }
+}
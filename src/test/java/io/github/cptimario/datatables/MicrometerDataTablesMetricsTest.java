@@ -0,0 +1,53 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.entity.ParentEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerDataTablesMetricsTest {
+    private MeterRegistry meterRegistry;
+    private MicrometerDataTablesMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new MicrometerDataTablesMetrics(meterRegistry);
+    }
+
+    @Test
+    void recordPhaseTest() {
+        metrics.recordPhase(ParentEntity.class, DataTablesMetrics.Phase.TOTAL_COUNT, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordPhase(ParentEntity.class, DataTablesMetrics.Phase.TOTAL_COUNT, TimeUnit.MILLISECONDS.toNanos(3));
+        Timer timer = meterRegistry.get("datatables.query").tag("entity", "ParentEntity").tag("phase", "total-count").timer();
+        assertEquals(2, timer.count());
+        assertEquals(8, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get("datatables.query").tag("phase", "result").timer().count());
+    }
+
+    @Test
+    void recordResponseTest() {
+        metrics.recordResponse(ParentEntity.class, 25, 10, 5);
+        metrics.recordResponse(ParentEntity.class, -1, 30, 0);
+        assertEquals(2, meterRegistry.get("datatables.responses").tag("entity", "ParentEntity").counter().count());
+        DistributionSummary rows = meterRegistry.get("datatables.rows").summary();
+        assertEquals(40, rows.totalAmount());
+        assertEquals(30, rows.max());
+        assertEquals(1, meterRegistry.get("datatables.page.length").summary().count());
+        assertEquals(25, meterRegistry.get("datatables.page.length").summary().totalAmount());
+        assertEquals(5, meterRegistry.get("datatables.search.length").summary().max());
+    }
+
+    @Test
+    void getTagValueTest() {
+        assertEquals("build", DataTablesMetrics.Phase.BUILD.getTagValue());
+        assertEquals("filtered-count", DataTablesMetrics.Phase.FILTERED_COUNT.getTagValue());
+    }
+}
@@ -18,7 +18,7 @@ public class ParentEntityPredicate implements Predicate<ParentEntity> {
     public boolean test(ParentEntity parentEntity) {
         ChildEntity childEntity = parentEntity.getChildEntity();
         OtherEntity otherEntity = parentEntity.getOtherEntity();
-        String id = parentEntity.getId().toString();
+        String id = parentEntity.getId().toString().equals(searchValue.trim()) ? searchValue : "";
         String data = parentEntity.getData();
         String date = parentEntity.getDate().toString();
         String childFirstData = Objects.nonNull(childEntity) ? childEntity.getFirstData() : "";
@@ -0,0 +1,41 @@
+package io.github.cptimario.datatables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTemplateCacheTest {
+    @Test
+    void initializationTestInvalidSize() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> new QueryTemplateCache(0));
+        assertEquals("'0' not a valid cache size.", exception.getMessage());
+    }
+
+    @Test
+    void getTestCachedTemplate() {
+        QueryTemplateCache queryTemplateCache = new QueryTemplateCache(2);
+        QueryTemplate queryTemplate = queryTemplateCache.get("shape", () -> new QueryTemplate("query", List.of()));
+        assertSame(queryTemplate, queryTemplateCache.get("shape", () -> new QueryTemplate("other query", List.of())));
+        assertEquals(1, queryTemplateCache.size());
+    }
+
+    @Test
+    void getTestEvictLeastRecentlyUsed() {
+        QueryTemplateCache queryTemplateCache = new QueryTemplateCache(2);
+        QueryTemplate first = queryTemplateCache.get("first", () -> new QueryTemplate("first query", List.of()));
+        queryTemplateCache.get("second", () -> new QueryTemplate("second query", List.of()));
+        queryTemplateCache.get("first", () -> new QueryTemplate("first query", List.of()));
+        queryTemplateCache.get("third", () -> new QueryTemplate("third query", List.of()));
+        assertEquals(2, queryTemplateCache.size());
+        assertSame(first, queryTemplateCache.get("first", () -> new QueryTemplate("first query", List.of())));
+        assertEquals("second query", queryTemplateCache.get("second", () -> new QueryTemplate("second query", List.of())).getQuery());
+    }
+
+    @Test
+    void getParameterNamesTest() {
+        QueryTemplate queryTemplate = new QueryTemplate("Select e From Entity e Where e.id = :id And e.data Like :value_0", List.of());
+        assertIterableEquals(List.of("id", "value_0"), queryTemplate.getParameterNames());
+    }
+}
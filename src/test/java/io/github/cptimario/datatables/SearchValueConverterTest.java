@@ -0,0 +1,57 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.components.MatchStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchValueConverterTest {
+    @Test
+    void isTypedTest() {
+        assertTrue(SearchValueConverter.isTyped(Integer.class));
+        assertTrue(SearchValueConverter.isTyped(long.class));
+        assertTrue(SearchValueConverter.isTyped(Boolean.class));
+        assertTrue(SearchValueConverter.isTyped(UUID.class));
+        assertTrue(SearchValueConverter.isTyped(DayOfWeek.class));
+        assertFalse(SearchValueConverter.isTyped(String.class));
+        assertFalse(SearchValueConverter.isTyped(LocalDate.class));
+    }
+
+    @Test
+    void convertTestNumeric() {
+        assertEquals(Optional.of(12), SearchValueConverter.convert(Integer.class, " 12 ", MatchStrategy.CONTAINS));
+        assertEquals(Optional.of(12L), SearchValueConverter.convert(long.class, "12", MatchStrategy.CONTAINS));
+        assertEquals(Optional.of(new BigDecimal("1.50")), SearchValueConverter.convert(BigDecimal.class, "1.50", MatchStrategy.CONTAINS));
+        assertTrue(SearchValueConverter.convert(Integer.class, "12a", MatchStrategy.CONTAINS).isEmpty());
+        assertTrue(SearchValueConverter.convert(Short.class, "99999", MatchStrategy.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void convertTestBoolean() {
+        assertEquals(Optional.of(true), SearchValueConverter.convert(Boolean.class, "TRUE", MatchStrategy.CONTAINS));
+        assertEquals(Optional.of(false), SearchValueConverter.convert(boolean.class, "false", MatchStrategy.CONTAINS));
+        assertTrue(SearchValueConverter.convert(Boolean.class, "yes", MatchStrategy.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void convertTestUUID() {
+        UUID uuid = UUID.randomUUID();
+        assertEquals(Optional.of(uuid), SearchValueConverter.convert(UUID.class, uuid.toString(), MatchStrategy.CONTAINS));
+        assertTrue(SearchValueConverter.convert(UUID.class, uuid.toString().substring(0, 8), MatchStrategy.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void convertTestEnum() {
+        assertEquals(Optional.of(List.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY)), SearchValueConverter.convert(DayOfWeek.class, "nd", MatchStrategy.CONTAINS));
+        assertEquals(Optional.of(List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY)), SearchValueConverter.convert(DayOfWeek.class, "t", MatchStrategy.PREFIX));
+        assertEquals(Optional.of(List.of(DayOfWeek.FRIDAY)), SearchValueConverter.convert(DayOfWeek.class, "Friday", MatchStrategy.EXACT));
+        assertTrue(SearchValueConverter.convert(DayOfWeek.class, "xyz", MatchStrategy.CONTAINS).isEmpty());
+    }
+}
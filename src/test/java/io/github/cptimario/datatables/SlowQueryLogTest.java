@@ -0,0 +1,77 @@
+package io.github.cptimario.datatables;
+
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+    @Test
+    void initializationTestInvalidCapacity() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> new SlowQueryLog(Duration.ofSeconds(1), 0));
+        assertEquals("'0' not a valid slow query log capacity.", exception.getMessage());
+    }
+
+    @Test
+    void initializationTestInvalidThreshold() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> new SlowQueryLog(Duration.ofSeconds(-1), 10));
+        assertEquals("'PT-1S' not a valid slow query threshold.", exception.getMessage());
+    }
+
+    @Test
+    void isSlowTest() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(100), 10);
+        assertFalse(slowQueryLog.isSlow(Duration.ofMillis(100).toNanos()));
+        assertTrue(slowQueryLog.isSlow(Duration.ofMillis(101).toNanos()));
+    }
+
+    @Test
+    void getSlowQueriesTestEvictOldest() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 2);
+        slowQueryLog.add(getSlowQuery("first"));
+        slowQueryLog.add(getSlowQuery("second"));
+        slowQueryLog.add(getSlowQuery("third"));
+        List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+        assertEquals(2, slowQueries.size());
+        assertEquals("third", slowQueries.get(0).getQuery());
+        assertEquals("second", slowQueries.get(1).getQuery());
+        slowQueryLog.clear();
+        assertTrue(slowQueryLog.getSlowQueries().isEmpty());
+    }
+
+    @Test
+    void getExpandedQueryTest() {
+        Map<String, Object> parameterValues = new LinkedHashMap<>();
+        parameterValues.put("ids", List.of(1, 2, 3));
+        parameterValues.put("ids_other", "value");
+        parameterValues.put("empty", List.of());
+        parameterValues.put("single", List.of(4));
+        Map<String, Object> expandedValues = new LinkedHashMap<>();
+        String query = "Select e From Entity e Where e.id In (:ids) And e.data = :ids_other And e.id Not In (:empty) And e.id In (:single)";
+        assertEquals("Select e From Entity e Where e.id In (:ids_0, :ids_1, :ids_2) And e.data = :ids_other And e.id Not In () And e.id In (:single)",
+                SlowQueryLog.getExpandedQuery(query, parameterValues, new H2Dialect(), false, expandedValues));
+        assertIterableEquals(List.of("ids_0", "ids_1", "ids_2", "ids_other", "single"), expandedValues.keySet());
+        assertEquals(3, expandedValues.get("ids_2"));
+        assertEquals(4, expandedValues.get("single"));
+    }
+
+    @Test
+    void getExpandedQueryTestPadding() {
+        Map<String, Object> parameterValues = Map.of("ids", List.of(1, 2, 3, 4, 5));
+        Map<String, Object> expandedValues = new LinkedHashMap<>();
+        assertEquals("Select e From Entity e Where e.id In (:ids_0, :ids_1, :ids_2, :ids_3, :ids_4, :ids_5, :ids_6, :ids_7) Or e.parent In (:ids_0, :ids_1, :ids_2, :ids_3, :ids_4, :ids_5, :ids_6, :ids_7)",
+                SlowQueryLog.getExpandedQuery("Select e From Entity e Where e.id In (:ids) Or e.parent In :ids", parameterValues, new H2Dialect(), true, expandedValues));
+        assertEquals(8, expandedValues.size());
+        assertEquals(5, expandedValues.get("ids_7"));
+    }
+
+    private static SlowQuery getSlowQuery(String query) {
+        return new SlowQuery(Instant.now(), "ParentEntity", "RESULT_LIST", Duration.ofSeconds(1), query, null, Map.of(), null, null, null);
+    }
+}
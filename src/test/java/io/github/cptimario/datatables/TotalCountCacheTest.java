@@ -0,0 +1,101 @@
+package io.github.cptimario.datatables;
+
+import io.github.cptimario.datatables.entity.ChildEntity;
+import io.github.cptimario.datatables.entity.ParentEntity;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TotalCountCacheTest {
+    private static final String QUERY = "Select Count(parentEntity) From ParentEntity parentEntity";
+
+    private AtomicLong counter;
+    private TotalCountCache totalCountCache;
+
+    @BeforeEach
+    void setUp() {
+        counter = new AtomicLong();
+        totalCountCache = new TotalCountCache(Duration.ofMinutes(1), 10);
+    }
+
+    @Test
+    void initializationTestInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TotalCountCache(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TotalCountCache(Duration.ofMinutes(1), 0));
+    }
+
+    @Test
+    void getTestCachedCount() {
+        assertEquals(1, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+        assertEquals(1, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+        assertEquals(2, totalCountCache.get(ParentEntity.class, QUERY, Map.of("data", "value"), counter::incrementAndGet));
+        assertEquals(2, totalCountCache.size());
+    }
+
+    @Test
+    void getTestExpiredCount() throws InterruptedException {
+        totalCountCache = new TotalCountCache(Duration.ofMillis(1), 10);
+        assertEquals(1, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+        Thread.sleep(5);
+        assertEquals(2, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+    }
+
+    @Test
+    void getTestMaximumSize() {
+        totalCountCache = new TotalCountCache(Duration.ofMinutes(1), 1);
+        totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        totalCountCache.get(ChildEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        assertEquals(1, totalCountCache.size());
+    }
+
+    @Test
+    void invalidateTest() {
+        totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        totalCountCache.get(ChildEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        totalCountCache.invalidate(ParentEntity.class);
+        assertEquals(1, totalCountCache.size());
+        assertEquals(3, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+    }
+
+    @Test
+    void invalidateTestDuringCount() {
+        LongSupplier invalidatedCount = () -> {
+            totalCountCache.invalidate(ParentEntity.class);
+            return counter.incrementAndGet();
+        };
+        assertEquals(1, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), invalidatedCount));
+        assertEquals(0, totalCountCache.size());
+        assertEquals(2, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+        assertEquals(2, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet));
+    }
+
+    @Test
+    void invalidateAllTestDuringCount() {
+        LongSupplier invalidatedCount = () -> {
+            totalCountCache.invalidateAll();
+            return counter.incrementAndGet();
+        };
+        assertEquals(1, totalCountCache.get(ParentEntity.class, QUERY, Map.of(), invalidatedCount));
+        assertEquals(0, totalCountCache.size());
+    }
+
+    @Test
+    void invalidatorTest() {
+        TotalCountCacheInvalidator invalidator = new TotalCountCacheInvalidator(totalCountCache);
+        totalCountCache.get(ParentEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        totalCountCache.get(ChildEntity.class, QUERY, Map.of(), counter::incrementAndGet);
+        invalidator.onPostInsert(new PostInsertEvent(new ChildEntity(), 1, new Object[0], null, null));
+        assertEquals(1, totalCountCache.size());
+        invalidator.onPostDelete(new PostDeleteEvent(new ParentEntity(), 1, new Object[0], null, null));
+        assertEquals(0, totalCountCache.size());
+        assertTrue(invalidator.requiresPostCommitHanding(null));
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.cptimario.datatables.components;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnDescriptorTest {
+    @Test
+    void ofTestSharedInstance() {
+        assertSame(ColumnDescriptor.of("entity.field"), ColumnDescriptor.of("entity.field"));
+        assertSame(ColumnDescriptor.of("entity.field"), new Column("entity.field").getDescriptor());
+    }
+
+    @Test
+    void ofTestSingleField() {
+        ColumnDescriptor columnDescriptor = ColumnDescriptor.of("field");
+        assertFalse(columnDescriptor.isMultiField());
+        assertFalse(columnDescriptor.isRelationship());
+        assertEquals("field", columnDescriptor.getAttributePath());
+        assertEquals("", columnDescriptor.getBaseField());
+        assertTrue(columnDescriptor.getSubColumnList().isEmpty());
+    }
+
+    @Test
+    void ofTestRelationship() {
+        ColumnDescriptor columnDescriptor = ColumnDescriptor.of("entity.other.field");
+        assertFalse(columnDescriptor.isMultiField());
+        assertTrue(columnDescriptor.isRelationship());
+        assertEquals("entity", columnDescriptor.getBaseField());
+        assertEquals("other.field", columnDescriptor.getAttributePath());
+    }
+
+    @Test
+    void ofTestMultiField() {
+        ColumnDescriptor columnDescriptor = ColumnDescriptor.of("entity.firstField - secondField");
+        assertTrue(columnDescriptor.isMultiField());
+        assertEquals(" - ", columnDescriptor.getFieldDelimiter());
+        assertIterableEquals(List.of("entity.firstField", "secondField"), columnDescriptor.getFieldList());
+        assertIterableEquals(List.of(ColumnDescriptor.of("entity.firstField"), ColumnDescriptor.of("secondField")), columnDescriptor.getSubColumnList());
+    }
+
+    @Test
+    void getDescriptorTestChangedData() {
+        Column column = new Column("field");
+        column.setData("entity.field");
+        assertTrue(column.getDescriptor().isRelationship());
+    }
+}
@@ -18,6 +18,8 @@ public class OtherEntity {
 
     private LocalDate date;
 
+    private boolean archived;
+
     @ManyToOne(cascade = CascadeType.ALL)
     private ChildEntity childEntity;
 }
@@ -1,17 +1,21 @@
 package io.github.cptimario.datatables.entity;
 
 import lombok.Data;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 
 @Data
 @Entity
+@Indexed
 public class ParentEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
+    @FullTextField
     private String data;
 
     private LocalDate date;
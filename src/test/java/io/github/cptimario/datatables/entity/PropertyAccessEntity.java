@@ -0,0 +1,28 @@
+package io.github.cptimario.datatables.entity;
+
+import javax.persistence.*;
+
+@Entity
+public class PropertyAccessEntity {
+    private Integer id;
+
+    private String data;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+}